@@ -0,0 +1,131 @@
+package com.example.musicBackend.external.itunes.codec;
+
+import com.example.musicBackend.external.itunes.dto.ItunesResponse;
+import com.example.musicBackend.external.itunes.dto.ItunesTrackDto;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * iTunes 검색 응답 디코딩 비교
+ * - dataBind: 본문 전체 → ItunesResponse(ItunesTrackDto 목록) → TrackSearchResponseDto 목록 (기존 방식)
+ * - streaming: 청크 단위로 ItunesTrackStreamParser에 넣어 바로 TrackSearchResponseDto 목록
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 확인 - ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItunesSearchDecodeBenchmark {
+
+    // Reactor Netty가 넘겨주는 청크 크기와 비슷하게
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    @Param({"20", "200"})
+    private int resultCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        payload = searchPayload(resultCount);
+    }
+
+    @Benchmark
+    public List<TrackSearchResponseDto> dataBind() throws IOException {
+        ItunesResponse response = objectMapper.readValue(payload, ItunesResponse.class);
+        List<TrackSearchResponseDto> results = new ArrayList<>(response.getResults().size());
+        for (ItunesTrackDto itunesTrack : response.getResults()) {
+            results.add(new TrackSearchResponseDto(
+                    String.valueOf(itunesTrack.getTrackId()),
+                    itunesTrack.getTrackName(),
+                    itunesTrack.getArtistName(),
+                    itunesTrack.getCollectionName(),
+                    itunesTrack.getTrackTimeMillis() != null ? itunesTrack.getTrackTimeMillis().intValue() : 0,
+                    itunesTrack.getArtworkUrl100(),
+                    itunesTrack.getReleaseDate(),
+                    itunesTrack.getPreviewUrl(),
+                    itunesTrack.getPrimaryGenreName()
+            ));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<TrackSearchResponseDto> streaming() throws IOException {
+        ItunesTrackStreamParser parser = new ItunesTrackStreamParser();
+        List<TrackSearchResponseDto> results = new ArrayList<>();
+        for (int from = 0; from < payload.length; from += CHUNK_SIZE) {
+            results.addAll(parser.feed(ByteBuffer.wrap(payload, from, Math.min(CHUNK_SIZE, payload.length - from))));
+        }
+        results.addAll(parser.endOfInput());
+        return results;
+    }
+
+    /**
+     * 실제 iTunes 검색 응답(entity=song)과 같은 필드 구성/길이의 본문
+     * 서비스에서 쓰지 않는 필드(URL, 가격, 국가 등)도 그대로 포함
+     */
+    static byte[] searchPayload(int resultCount) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("{\n \"resultCount\":" + resultCount + ",\n \"results\": [").getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < resultCount; i++) {
+            long trackId = 1_440_000_000L + i;
+            long collectionId = 1_439_000_000L + i / 12;
+            long artistId = 1_400_000_000L + i / 24;
+            String track = (i > 0 ? ",\n" : "\n")
+                    + "{\"wrapperType\":\"track\", \"kind\":\"song\", \"artistId\":" + artistId
+                    + ", \"collectionId\":" + collectionId + ", \"trackId\":" + trackId
+                    + ", \"artistName\":\"아티스트 " + (i / 24) + " & The Band\""
+                    + ", \"collectionName\":\"앨범 제목 " + (i / 12) + " - EP\""
+                    + ", \"trackName\":\"노래 제목 " + i + " (feat. Guest Artist)\""
+                    + ", \"collectionCensoredName\":\"앨범 제목 " + (i / 12) + " - EP\""
+                    + ", \"trackCensoredName\":\"노래 제목 " + i + " (feat. Guest Artist)\""
+                    + ", \"artistViewUrl\":\"https://music.apple.com/kr/artist/artist-name/" + artistId + "?uo=4\""
+                    + ", \"collectionViewUrl\":\"https://music.apple.com/kr/album/album-name/" + collectionId
+                    + "?i=" + trackId + "&uo=4\""
+                    + ", \"trackViewUrl\":\"https://music.apple.com/kr/album/song-name/" + collectionId
+                    + "?i=" + trackId + "&uo=4\""
+                    + ", \"previewUrl\":\"https://audio-ssl.itunes.apple.com/itunes-assets/AudioPreview116/v4/"
+                    + "3a/5b/7c/3a5b7c9d-1e2f-3a4b-5c6d-7e8f9a0b1c2d/mzaf_" + trackId + ".plus.aac.p.m4a\""
+                    + ", \"artworkUrl30\":\"https://is1-ssl.mzstatic.com/image/thumb/Music116/v4/aa/bb/cc/"
+                    + "aabbccdd-0000-1111-2222-333344445555/" + collectionId + ".jpg/30x30bb.jpg\""
+                    + ", \"artworkUrl60\":\"https://is1-ssl.mzstatic.com/image/thumb/Music116/v4/aa/bb/cc/"
+                    + "aabbccdd-0000-1111-2222-333344445555/" + collectionId + ".jpg/60x60bb.jpg\""
+                    + ", \"artworkUrl100\":\"https://is1-ssl.mzstatic.com/image/thumb/Music116/v4/aa/bb/cc/"
+                    + "aabbccdd-0000-1111-2222-333344445555/" + collectionId + ".jpg/100x100bb.jpg\""
+                    + ", \"collectionPrice\":7.99, \"trackPrice\":1.29"
+                    + ", \"releaseDate\":\"2023-0" + (1 + i % 9) + "-1" + (i % 10) + "T12:00:00Z\""
+                    + ", \"collectionExplicitness\":\"notExplicit\", \"trackExplicitness\":\"notExplicit\""
+                    + ", \"discCount\":1, \"discNumber\":1, \"trackCount\":12, \"trackNumber\":" + (1 + i % 12)
+                    + ", \"trackTimeMillis\":" + (150_000 + i * 997 % 90_000)
+                    + ", \"country\":\"KOR\", \"currency\":\"KRW\", \"primaryGenreName\":\"K-Pop\""
+                    + ", \"isStreamable\":true}";
+            out.write(track.getBytes(StandardCharsets.UTF_8));
+        }
+        out.write("]\n}\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.musicBackend.external.itunes.cache;
+
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * iTunes 조회 실패 결과 캐시 (검색 결과 캐시와 별도, 짧은 TTL)
+ * - lookup에서 iTunes가 없다고 응답한 trackId
+ * - 결과가 0건인 검색어 구간
+ * hit/miss/eviction 지표는 cache=itunes.lookup.missing, cache=itunes.search.empty 로 노출
+ */
+@Component
+public class ItunesNegativeCache {
+
+    private final Cache<Long, Boolean> missingTracks;
+    private final Cache<String, Boolean> emptySearches;
+
+    public ItunesNegativeCache(ItunesProperties properties, MeterRegistry meterRegistry) {
+        ItunesProperties.NegativeCache config = properties.getNegativeCache();
+        this.missingTracks = Caffeine.newBuilder()
+                .maximumSize(config.getMaxMissingTracks())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        this.emptySearches = Caffeine.newBuilder()
+                .maximumSize(config.getMaxEmptySearches())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, missingTracks, "itunes.lookup.missing");
+        CaffeineCacheMetrics.monitor(meterRegistry, emptySearches, "itunes.search.empty");
+    }
+
+    public boolean isMissingTrack(Long trackId) {
+        return missingTracks.getIfPresent(trackId) != null;
+    }
+
+    public void putMissingTracks(Collection<Long> trackIds) {
+        trackIds.forEach(trackId -> missingTracks.put(trackId, Boolean.TRUE));
+    }
+
+    /**
+     * key: ItunesSearchCache.windowKey
+     */
+    public boolean isEmptySearch(String key) {
+        return emptySearches.getIfPresent(key) != null;
+    }
+
+    public void putEmptySearch(String key) {
+        emptySearches.put(key, Boolean.TRUE);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.musicBackend.external.itunes.cache;
+
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * iTunes 검색 결과 캐시 (최대 개수 + TTL 제한)
+ * hit/miss/eviction 지표는 cache.gets, cache.evictions (cache=itunes.search) 로 노출
+ * iTunes 장애 시 대체 응답용으로 TTL이 지난 결과도 더 오래 보관함 (cache=itunes.search.stale)
+ */
+@Component
+public class ItunesSearchCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Cache<String, List<TrackSearchResponseDto>> cache;
+    private final Cache<String, List<TrackSearchResponseDto>> staleCache;
+
+    public ItunesSearchCache(ItunesProperties properties, MeterRegistry meterRegistry) {
+        ItunesProperties.Cache config = properties.getSearch().getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxEntries())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(config.getStaleMaxEntries())
+                .expireAfterWrite(config.getStaleTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "itunes.search");
+        CaffeineCacheMetrics.monitor(meterRegistry, staleCache, "itunes.search.stale");
+    }
+
+    /**
+     * 캐시 키용 검색어 정규화 (유니코드 NFKC, 앞뒤 공백 제거, 연속 공백 축약, 소문자)
+     */
+    public static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(query, Normalizer.Form.NFKC).strip();
+        return WHITESPACE.matcher(normalized).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 검색어 + 스토어 국가 + 결과 구간(offset) 캐시 키 (country가 null이면 기본 스토어)
+     */
+    public static String windowKey(String normalizedQuery, String country, int windowStart) {
+        String window = windowStart + ":" + normalizedQuery;
+        return country == null ? window : country + "/" + window;
+    }
+
+    public Optional<List<TrackSearchResponseDto>> get(String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    /**
+     * TTL이 지났더라도 마지막으로 받은 검색 결과 (장애 시 대체 응답용)
+     */
+    public Optional<List<TrackSearchResponseDto>> getStale(String key) {
+        return Optional.ofNullable(staleCache.getIfPresent(key));
+    }
+
+    public void put(String key, List<TrackSearchResponseDto> results) {
+        List<TrackSearchResponseDto> copy = List.copyOf(results);
+        cache.put(key, copy);
+        staleCache.put(key, copy);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.musicBackend.external.itunes.client;
+
+import com.example.musicBackend.external.itunes.codec.ItunesTrackStreamParser;
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import com.example.musicBackend.external.itunes.dto.ItunesResponse;
+import com.example.musicBackend.external.itunes.ratelimit.ItunesCallPriority;
+import com.example.musicBackend.external.itunes.ratelimit.ItunesRateLimiter;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * iTunes Search/Lookup API 호출 (논블로킹)
+ * 각 요청에는 설정된 제한 시간이 걸려 있고, 구독 취소 시 HTTP 요청도 함께 취소됨
+ * URI는 한 번만 인코딩해서 넘김 (문자열로 넘기면 WebClient가 한글 검색어를 이중 인코딩함)
+ * 모든 호출은 속도 제한(우선순위별 대기) 후 벌크헤드와 서킷 브레이커를 거침
+ */
+@Component
+@RequiredArgsConstructor
+public class ItunesClient {
+
+    private final WebClient webClient;
+    private final ItunesProperties properties;
+    private final CircuitBreaker itunesCircuitBreaker;
+    private final Bulkhead itunesBulkhead;
+    private final ItunesRateLimiter rateLimiter;
+
+    /**
+     * 곡 검색 - 응답 본문을 받는 대로 파싱해서 곡을 하나씩 내보냄 (ItunesResponse를 거치지 않음)
+     */
+    public Flux<TrackSearchResponseDto> streamSearch(String term, int offset, int limit) {
+        return streamSearch(term, null, offset, limit);
+    }
+
+    /**
+     * 특정 국가 스토어 곡 검색 (country가 null이면 기본 스토어)
+     * 국가를 지정한 요청은 스토어별 제한 시간(search.fan-out.storefront-timeout)을 따로 가짐
+     */
+    public Flux<TrackSearchResponseDto> streamSearch(String term, String country, int offset, int limit) {
+        Flux<TrackSearchResponseDto> call = Flux.defer(() -> {
+            ItunesTrackStreamParser parser = new ItunesTrackStreamParser();
+            return webClient.get()
+                    .uri(searchUri(term, country, offset, limit))
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .concatMapIterable(buffer -> parse(parser, buffer))
+                    .concatWith(Flux.defer(() -> {
+                        try {
+                            return Flux.fromIterable(parser.endOfInput());
+                        } catch (IOException e) {
+                            return Flux.error(new DecodingException("iTunes 응답 파싱 실패", e));
+                        }
+                    }));
+        });
+
+        Duration timeout = country == null
+                ? properties.getSearch().getTimeout()
+                : properties.getSearch().getFanOut().getStorefrontTimeout();
+        return executeMany(call, timeout, ItunesCallPriority.SEARCH);
+    }
+
+    /**
+     * trackId로 곡 조회 (플레이리스트 곡 추가용)
+     */
+    public Mono<ItunesResponse> lookup(Long trackId) {
+        return lookup(List.of(trackId), ItunesCallPriority.PLAYLIST_ADD);
+    }
+
+    /**
+     * 여러 trackId를 한 번에 조회 (id=a,b,c)
+     */
+    public Mono<ItunesResponse> lookup(Collection<Long> trackIds, ItunesCallPriority priority) {
+        String ids = trackIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        URI uri = UriComponentsBuilder.fromHttpUrl(properties.getLookup().getUrl())
+                .queryParam("id", ids)
+                .build()
+                .encode()
+                .toUri();
+
+        return execute(uri, properties.getLookup().getTimeout(), priority);
+    }
+
+    private URI searchUri(String term, String country, int offset, int limit) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(properties.getSearch().getUrl())
+                .queryParam("term", term)
+                .queryParam("media", "music")
+                .queryParam("entity", "song")
+                .queryParam("offset", offset)
+                .queryParam("limit", limit);
+        if (country != null) {
+            builder.queryParam("country", country);
+        }
+        return builder
+                .build()
+                .encode()
+                .toUri();
+    }
+
+    private List<TrackSearchResponseDto> parse(ItunesTrackStreamParser parser, DataBuffer buffer) {
+        try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+            List<TrackSearchResponseDto> tracks = new ArrayList<>();
+            while (iterator.hasNext()) {
+                ByteBuffer chunk = iterator.next();
+                tracks.addAll(parser.feed(chunk));
+            }
+            return tracks;
+        } catch (IOException e) {
+            throw new DecodingException("iTunes 응답 파싱 실패", e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private Mono<ItunesResponse> execute(URI uri, Duration timeout, ItunesCallPriority priority) {
+        return execute(webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(ItunesResponse.class), timeout, priority);
+    }
+
+    private <T> Mono<T> execute(Mono<T> call, Duration timeout, ItunesCallPriority priority) {
+        // 제한 시간 초과도 서킷 브레이커에 실패로 집계되도록 timeout을 안쪽에 둠
+        // 속도 제한 대기는 iTunes 장애가 아니므로 서킷 브레이커 바깥에서 기다림
+        return rateLimiter.acquire(priority)
+                .then(call
+                        .timeout(timeout)
+                        .transformDeferred(BulkheadOperator.of(itunesBulkhead))
+                        .transformDeferred(CircuitBreakerOperator.of(itunesCircuitBreaker)));
+    }
+
+    /**
+     * 스트리밍 응답용 - 응답 전체(마지막 곡까지)에 제한 시간을 걺
+     */
+    private <T> Flux<T> executeMany(Flux<T> call, Duration timeout, ItunesCallPriority priority) {
+        Mono<T> deadline = Mono.delay(timeout)
+                .then(Mono.error(() -> new TimeoutException("iTunes 응답 제한 시간(" + timeout + ") 초과")));
+        return rateLimiter.acquire(priority)
+                .thenMany(call
+                        .takeUntilOther(deadline)
+                        .transformDeferred(BulkheadOperator.of(itunesBulkhead))
+                        .transformDeferred(CircuitBreakerOperator.of(itunesCircuitBreaker)));
+    }
+}
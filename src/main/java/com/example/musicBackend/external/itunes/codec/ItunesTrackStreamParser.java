@@ -0,0 +1,147 @@
+package com.example.musicBackend.external.itunes.codec;
+
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * iTunes 응답 본문을 도착하는 대로 파싱해서 results 배열의 곡을 바로 TrackSearchResponseDto로 변환
+ * Jackson 논블로킹 파서 사용 - 본문 전체를 버퍼링하거나 중간 DTO(ItunesResponse/ItunesTrackDto)를 만들지 않음
+ * 응답 하나당 인스턴스 하나 (스레드 안전하지 않음)
+ */
+public class ItunesTrackStreamParser {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+
+    // 현재 중첩 깊이 (최상위 객체 = 1)
+    private int depth;
+    private boolean inResults;
+    private String currentField;
+    private TrackFields current;
+
+    public ItunesTrackStreamParser() {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new IllegalStateException("JSON 파서 생성 실패", e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 받은 청크를 파싱하고 이번 청크에서 완성된 곡 목록 반환
+     * 버퍼 내용은 이 메서드 안에서 모두 소비되므로 호출 후 바로 반납해도 됨
+     */
+    public List<TrackSearchResponseDto> feed(ByteBuffer chunk) throws IOException {
+        List<TrackSearchResponseDto> completed = new ArrayList<>();
+        feeder.feedInput(chunk);
+        drain(completed);
+        return completed;
+    }
+
+    /**
+     * 본문 끝 (남은 토큰 처리, 응답이 중간에 끊겼으면 예외)
+     */
+    public List<TrackSearchResponseDto> endOfInput() throws IOException {
+        List<TrackSearchResponseDto> completed = new ArrayList<>();
+        feeder.endOfInput();
+        drain(completed);
+        if (depth != 0) {
+            throw new IOException("iTunes 응답 본문이 완전하지 않습니다.");
+        }
+        parser.close();
+        return completed;
+    }
+
+    private void drain(List<TrackSearchResponseDto> completed) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    depth++;
+                    if (inResults && token == JsonToken.START_OBJECT && depth == 3) {
+                        current = new TrackFields();
+                    } else if (!inResults && token == JsonToken.START_ARRAY && depth == 2
+                            && "results".equals(currentField)) {
+                        inResults = true;
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    if (inResults && token == JsonToken.END_OBJECT && depth == 3 && current != null) {
+                        completed.add(current.toDto());
+                        current = null;
+                    } else if (inResults && token == JsonToken.END_ARRAY && depth == 2) {
+                        inResults = false;
+                    }
+                    depth--;
+                }
+                case FIELD_NAME -> currentField = parser.currentName();
+                default -> {
+                    // 곡 객체 바로 아래의 값만 사용 (중첩 값은 무시)
+                    if (inResults && depth == 3 && current != null) {
+                        current.set(currentField, token, parser);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 파싱 중인 곡의 필드 (ItunesTrackDto 중 응답에 필요한 것만)
+     */
+    private static final class TrackFields {
+        private Long trackId;
+        private String trackName;
+        private String artistName;
+        private String collectionName;
+        private Long trackTimeMillis;
+        private String artworkUrl100;
+        private String releaseDate;
+        private String previewUrl;
+        private String primaryGenreName;
+
+        void set(String field, JsonToken token, JsonParser parser) throws IOException {
+            if (field == null || token == JsonToken.VALUE_NULL) {
+                return;
+            }
+            switch (field) {
+                case "trackId" -> trackId = token.isNumeric() ? parser.getLongValue() : null;
+                case "trackTimeMillis" -> trackTimeMillis = token.isNumeric() ? parser.getLongValue() : null;
+                case "trackName" -> trackName = parser.getText();
+                case "artistName" -> artistName = parser.getText();
+                case "collectionName" -> collectionName = parser.getText();
+                case "artworkUrl100" -> artworkUrl100 = parser.getText();
+                case "releaseDate" -> releaseDate = parser.getText();
+                case "previewUrl" -> previewUrl = parser.getText();
+                case "primaryGenreName" -> primaryGenreName = parser.getText();
+                default -> {
+                    // 사용하지 않는 필드
+                }
+            }
+        }
+
+        TrackSearchResponseDto toDto() {
+            return new TrackSearchResponseDto(
+                    String.valueOf(trackId),
+                    trackName,
+                    artistName,
+                    collectionName,
+                    trackTimeMillis != null ? trackTimeMillis.intValue() : 0,
+                    artworkUrl100,
+                    releaseDate,
+                    previewUrl,
+                    primaryGenreName
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.musicBackend.external.itunes.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * iTunes 연동 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ItunesProperties.class)
+public class ItunesConfig {
+
+    /**
+     * iTunes 전용 커넥션 풀
+     * keep-alive 커넥션 재사용, 대기열 제한, 유휴 커넥션 정리
+     * 풀 지표(reactor.netty.connection.provider.*, name=itunes): active/idle/pending 커넥션 수, 커넥션 획득 시간
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider itunesConnectionProvider(ItunesProperties properties) {
+        ItunesProperties.Client client = properties.getClient();
+        return ConnectionProvider.builder("itunes")
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .maxLifeTime(client.getMaxLifeTime())
+                .evictInBackground(client.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * iTunes 호출용 WebClient
+     * 단계별 제한 시간: 커넥션 획득(풀) → 연결 → 요청 전송 → 응답 수신
+     */
+    @Bean
+    public WebClient webClient(ConnectionProvider itunesConnectionProvider, ItunesProperties properties) {
+        ItunesProperties.Client client = properties.getClient();
+
+        HttpClient httpClient = HttpClient.create(itunesConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout())
+                // 풀에 반납될 때 제거되도록 요청마다 추가
+                .doOnRequest((request, connection) -> connection.addHandlerLast(
+                        new WriteTimeoutHandler(client.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)))
+                // uri 태그는 쿼리스트링을 제외한 경로만 사용 (검색어별로 지표가 늘어나지 않도록)
+                .metrics(true, uri -> {
+                    int queryStart = uri.indexOf('?');
+                    return queryStart >= 0 ? uri.substring(0, queryStart) : uri;
+                });
+
+        // iTunes는 JSON을 text/javascript로 내려줌
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonDecoder(
+                            new Jackson2JsonDecoder(new ObjectMapper(), new MediaType("text", "javascript")));
+                    configurer.defaultCodecs().maxInMemorySize((int) client.getMaxInMemorySize().toBytes());
+                })
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .build();
+    }
+
+    /**
+     * iTunes 서킷 브레이커
+     * 실패/지연이 일정 비율을 넘으면 일정 시간 동안 호출하지 않고 바로 실패 처리 (CallNotPermittedException)
+     * 벌크헤드 거절은 iTunes 장애가 아니므로 실패로 집계하지 않음
+     */
+    @Bean
+    public CircuitBreaker itunesCircuitBreaker(ItunesProperties properties, MeterRegistry meterRegistry) {
+        ItunesProperties.Resilience resilience = properties.getResilience();
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(resilience.getSlidingWindowSize())
+                .minimumNumberOfCalls(resilience.getMinimumNumberOfCalls())
+                .failureRateThreshold(resilience.getFailureRateThreshold())
+                .slowCallRateThreshold(resilience.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(resilience.getSlowCallDurationThreshold())
+                .waitDurationInOpenState(resilience.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(resilience.getPermittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker("itunes");
+    }
+
+    /**
+     * iTunes 벌크헤드 - 동시 호출 수 제한 (대기 없이 즉시 거절: BulkheadFullException)
+     */
+    @Bean
+    public Bulkhead itunesBulkhead(ItunesProperties properties, MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getResilience().getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead("itunes");
+    }
+}
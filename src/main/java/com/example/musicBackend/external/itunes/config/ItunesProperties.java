@@ -0,0 +1,364 @@
+package com.example.musicBackend.external.itunes.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * iTunes 연동 설정 (itunes.* 프로퍼티)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "itunes")
+public class ItunesProperties {
+
+    private final Search search = new Search();
+
+    private final Lookup lookup = new Lookup();
+
+    private final Client client = new Client();
+
+    private final Resilience resilience = new Resilience();
+
+    private final Refresh refresh = new Refresh();
+
+    private final RateLimit rateLimit = new RateLimit();
+
+    private final NegativeCache negativeCache = new NegativeCache();
+
+    @Getter
+    @Setter
+    public static class Search {
+        /**
+         * 검색 API 주소 (환경변수 ITUNES_SEARCH_URL 로 변경 가능)
+         */
+        private String url = "https://itunes.apple.com/search";
+
+        /**
+         * 검색 요청 전체 제한 시간
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * iTunes에 요청/캐시하는 검색 결과 구간 크기 (offset/limit 요청은 이 크기의 구간 단위로 조회)
+         */
+        private int windowSize = 50;
+
+        private final Cache cache = new Cache();
+
+        private final WriteBehind writeBehind = new WriteBehind();
+
+        private final FanOut fanOut = new FanOut();
+    }
+
+    /**
+     * 여러 국가 스토어 동시 검색
+     * 스토어마다 0 ~ offset + limit 구간을 모두 조회하므로 요청당 iTunes 호출은 국가 수 × 구간(search.window-size) 수
+     * 이 값이 rate-limit.burst를 넘는 요청은 400으로 거절 (기본값 기준 5개국이면 offset + limit 200까지)
+     */
+    @Getter
+    @Setter
+    public static class FanOut {
+        /**
+         * 스토어별 요청 제한 시간 (응답 전체 기준)
+         */
+        private Duration storefrontTimeout = Duration.ofSeconds(3);
+
+        /**
+         * 전체 제한 시간 - 지나면 그때까지 받은 결과만 합쳐서 반환
+         */
+        private Duration deadline = Duration.ofMillis(3500);
+    }
+
+    @Getter
+    @Setter
+    public static class Lookup {
+        /**
+         * 곡 조회 API 주소 (환경변수 ITUNES_LOOKUP_URL 로 변경 가능)
+         */
+        private String url = "https://itunes.apple.com/lookup";
+
+        /**
+         * 곡 조회 요청 전체 제한 시간
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+
+        /**
+         * 한 번의 lookup 요청에 담을 최대 trackId 수 (id=a,b,c)
+         */
+        private int batchSize = 50;
+
+        /**
+         * 동시에 보낼 lookup 요청 수
+         */
+        private int batchConcurrency = 4;
+    }
+
+    /**
+     * iTunes 호출용 HTTP 클라이언트 (Reactor Netty 커넥션 풀)
+     */
+    @Getter
+    @Setter
+    public static class Client {
+        /**
+         * 최대 커넥션 수
+         */
+        private int maxConnections = 50;
+
+        /**
+         * 커넥션을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 실패)
+         */
+        private int pendingAcquireMaxCount = 200;
+
+        /**
+         * 커넥션 획득 대기 제한 시간
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 유휴 커넥션 유지 시간 (iTunes 쪽 keep-alive 종료보다 짧게)
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * 커넥션 최대 수명
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /**
+         * 유휴/만료 커넥션 백그라운드 정리 주기
+         */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        /**
+         * TCP 연결 제한 시간
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 요청 전송 제한 시간
+         */
+        private Duration writeTimeout = Duration.ofSeconds(2);
+
+        /**
+         * 응답 수신 중 읽기 간격 제한 시간
+         */
+        private Duration responseTimeout = Duration.ofSeconds(4);
+
+        /**
+         * 응답 본문 최대 버퍼 크기
+         */
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(2);
+    }
+
+    /**
+     * iTunes 장애 대응 (서킷 브레이커 + 벌크헤드)
+     */
+    @Getter
+    @Setter
+    public static class Resilience {
+        /**
+         * 실패율(%)이 이 값 이상이면 서킷 open
+         */
+        private float failureRateThreshold = 50;
+
+        /**
+         * 느린 호출 비율(%)이 이 값 이상이면 서킷 open
+         */
+        private float slowCallRateThreshold = 80;
+
+        /**
+         * 이 시간보다 오래 걸린 호출은 느린 호출로 집계
+         */
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+        /**
+         * 실패율 계산에 사용할 최근 호출 수
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율을 계산하기 위한 최소 호출 수
+         */
+        private int minimumNumberOfCalls = 10;
+
+        /**
+         * open 상태 유지 시간 (이후 half-open으로 시험 호출)
+         */
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+        /**
+         * half-open 상태에서 허용할 시험 호출 수
+         */
+        private int permittedCallsInHalfOpenState = 3;
+
+        /**
+         * 동시에 진행할 수 있는 최대 iTunes 호출 수 (초과 시 즉시 거절)
+         */
+        private int maxConcurrentCalls = 30;
+    }
+
+    /**
+     * iTunes 호출 속도 제한 (토큰 버킷 + 우선순위별 대기열)
+     */
+    @Getter
+    @Setter
+    public static class RateLimit {
+        /**
+         * 초당 호출 수
+         */
+        private double permitsPerSecond = 10;
+
+        /**
+         * 한꺼번에 허용할 최대 호출 수 (버킷 크기)
+         */
+        private int burst = 20;
+
+        /**
+         * 플레이리스트 곡 추가용 lookup 대기열
+         */
+        private final WaitQueue playlistAdd = new WaitQueue(200, Duration.ofSeconds(10));
+
+        /**
+         * 검색 대기열
+         */
+        private final WaitQueue search = new WaitQueue(100, Duration.ofSeconds(2));
+
+        /**
+         * 백그라운드 갱신 대기열
+         */
+        private final WaitQueue background = new WaitQueue(10, Duration.ofSeconds(60));
+    }
+
+    @Getter
+    @Setter
+    public static class WaitQueue {
+        /**
+         * 대기할 수 있는 최대 호출 수 (초과 시 즉시 실패)
+         */
+        private int maxQueued;
+
+        /**
+         * 최대 대기 시간
+         */
+        private Duration timeout;
+
+        public WaitQueue(int maxQueued, Duration timeout) {
+            this.maxQueued = maxQueued;
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * 저장된 곡 메타데이터 백그라운드 갱신 (cachedAt 기준)
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+        /**
+         * 갱신 작업 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 캐시된 지 이 시간이 지난 곡을 갱신
+         */
+        private Duration maxAge = Duration.ofDays(7);
+
+        /**
+         * 작업 실행 간격 (이전 실행이 끝난 시점부터)
+         */
+        private Duration interval = Duration.ofMinutes(10);
+
+        /**
+         * 애플리케이션 시작 후 첫 실행까지 대기 시간
+         */
+        private Duration initialDelay = Duration.ofMinutes(1);
+
+        /**
+         * 한 번의 실행에서 보낼 최대 lookup 요청 수 (요청당 lookup.batch-size 곡)
+         */
+        private int maxBatchesPerRun = 20;
+
+        /**
+         * lookup 요청 사이 대기 시간 (iTunes 호출 속도 제한)
+         */
+        private Duration pause = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 검색 결과 곡을 tracks 테이블에 비동기로 저장 (이후 곡 추가 시 iTunes 조회 생략)
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        /**
+         * 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 저장 대기열 최대 곡 수 (가득 차면 새 곡은 버림)
+         */
+        private int capacity = 10_000;
+
+        /**
+         * 한 번에 저장할 최대 곡 수
+         */
+        private int batchSize = 200;
+
+        /**
+         * 배치를 채우기 위해 기다리는 최대 시간
+         */
+        private Duration flushInterval = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+        /**
+         * 캐시에 보관할 최대 검색어 수
+         */
+        private long maxEntries = 1_000;
+
+        /**
+         * 검색 결과 보관 시간
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+
+        /**
+         * iTunes 장애 시 대체 응답으로 쓸 만료된 검색 결과 보관 개수
+         */
+        private long staleMaxEntries = 10_000;
+
+        /**
+         * 만료된 검색 결과 보관 시간
+         */
+        private Duration staleTtl = Duration.ofHours(24);
+    }
+
+    /**
+     * iTunes에 없는 곡 id / 결과가 없는 검색어 캐시 (같은 요청 반복 시 iTunes 호출 생략)
+     */
+    @Getter
+    @Setter
+    public static class NegativeCache {
+        /**
+         * 없는 곡 id 최대 보관 수
+         */
+        private long maxMissingTracks = 10_000;
+
+        /**
+         * 결과 없는 검색어(구간) 최대 보관 수
+         */
+        private long maxEmptySearches = 10_000;
+
+        /**
+         * 보관 시간 (iTunes에 새로 등록된 곡이 늦게 보이지 않도록 짧게)
+         */
+        private Duration ttl = Duration.ofMinutes(2);
+    }
+}
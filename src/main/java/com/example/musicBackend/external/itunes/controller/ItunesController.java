@@ -1,13 +1,19 @@
 package com.example.musicBackend.external.itunes.controller;
 
+import com.example.musicBackend.external.itunes.dto.ItunesSearchRequest;
+import com.example.musicBackend.external.itunes.dto.SearchMode;
 import com.example.musicBackend.external.itunes.service.ItunesService;
 import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.example.musicBackend.feature.track.dto.TrackSuggestionDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -16,11 +22,67 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ItunesController {
 
+    public static final String DEGRADED_HEADER = "X-Search-Degraded";
+    public static final String STOREFRONTS_HEADER = "X-Search-Storefronts";
+
     private final ItunesService itunesService;
 
+    /**
+     * 곡 검색 - 서블릿 스레드를 점유하지 않고 비동기로 응답
+     * iTunes 장애로 대체 결과를 반환한 경우 X-Search-Degraded: true 헤더 추가
+     * mode: REMOTE(기본값), LOCAL(저장된 곡만), LOCAL_FIRST(저장된 곡에 없을 때만 iTunes)
+     * offset/limit: 검색 결과 페이지 (offset 최대 200, limit 최대 50)
+     * country: 검색할 국가 스토어 목록 (예: country=KR,US,JP, 최대 5개) - 동시에 검색해서 합치고,
+     * 결과를 보내온 국가를 X-Search-Storefronts 헤더로 알려줌
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<TrackSearchResponseDto>> searchTracks(@RequestParam("query") String query) {
-        List<TrackSearchResponseDto> tracks = itunesService.searchTracks(query);
-        return ResponseEntity.ok(tracks);
+    public Mono<ResponseEntity<List<TrackSearchResponseDto>>> searchTracks(
+            @RequestParam("query") String query,
+            @RequestParam(value = "mode", defaultValue = "REMOTE") SearchMode mode,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "country", required = false) List<String> countries) {
+        return itunesService.searchTracks(new ItunesSearchRequest(query, mode, offset, limit, countries))
+                .map(result -> searchResponse(result.degraded(), result.storefronts(), countries)
+                        .body(result.tracks()));
+    }
+
+    /**
+     * 곡 검색 스트리밍 - 곡이 파싱되는 대로 한 건씩 응답 (NDJSON 또는 SSE)
+     * Accept: application/x-ndjson (기본값) 또는 text/event-stream
+     * 헤더는 /search와 같음 (첫 곡을 보내기 전에 정해짐), 일부를 보낸 뒤 iTunes 호출이 실패하면 스트림이 에러로 끊김
+     */
+    @GetMapping(value = "/search/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Mono<ResponseEntity<Flux<TrackSearchResponseDto>>> streamSearchTracks(
+            @RequestParam("query") String query,
+            @RequestParam(value = "mode", defaultValue = "REMOTE") SearchMode mode,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "country", required = false) List<String> countries) {
+        return itunesService.streamSearchTracks(new ItunesSearchRequest(query, mode, offset, limit, countries))
+                .map(stream -> searchResponse(stream.degraded(), stream.storefronts(), countries)
+                        .body(stream.tracks()));
+    }
+
+    private static ResponseEntity.BodyBuilder searchResponse(boolean degraded, List<String> storefronts,
+                                                             List<String> countries) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (degraded) {
+            response.header(DEGRADED_HEADER, "true");
+        }
+        if (countries != null && !countries.isEmpty()) {
+            response.header(STOREFRONTS_HEADER, String.join(",", storefronts));
+        }
+        return response;
+    }
+
+    /**
+     * 검색어 자동완성 - 저장된 곡의 제목/아티스트 중 접두사로 시작하는 항목 (플레이리스트에 많이 담긴 순, 최대 10개)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TrackSuggestionDto>> suggest(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(itunesService.suggest(prefix, limit));
     }
 }
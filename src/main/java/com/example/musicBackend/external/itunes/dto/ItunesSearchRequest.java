@@ -0,0 +1,55 @@
+package com.example.musicBackend.external.itunes.dto;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 곡 검색 요청 (검색어, 검색 방식, 페이지, 스토어 국가)
+ * countries가 비어 있으면 기본 스토어만 검색, 지정하면 국가별 스토어에 동시에 요청해서 합침
+ */
+public record ItunesSearchRequest(
+        String query,
+        SearchMode mode,
+        int offset,
+        int limit,
+        List<String> countries
+) {
+    public static final int MAX_LIMIT = 50;
+
+    // iTunes Search API는 검색어당 최대 200건까지만 반환하므로 그 뒤 페이지는 요청하지 않음
+    public static final int MAX_OFFSET = 200;
+    public static final int MAX_COUNTRIES = 5;
+
+    private static final Pattern COUNTRY_CODE = Pattern.compile("[A-Za-z]{2}");
+
+    public ItunesSearchRequest {
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("offset은 0 ~ " + MAX_OFFSET + " 사이여야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_LIMIT + " 사이여야 합니다.");
+        }
+        if (mode == null) {
+            mode = SearchMode.REMOTE;
+        }
+        countries = countries == null ? List.of() : countries.stream()
+                .map(String::strip)
+                .filter(country -> !country.isEmpty())
+                .map(country -> {
+                    if (!COUNTRY_CODE.matcher(country).matches()) {
+                        throw new IllegalArgumentException("country는 두 글자 국가 코드여야 합니다: " + country);
+                    }
+                    return country.toUpperCase(Locale.ROOT);
+                })
+                .distinct()
+                .toList();
+        if (countries.size() > MAX_COUNTRIES) {
+            throw new IllegalArgumentException("country는 최대 " + MAX_COUNTRIES + "개까지 지정할 수 있습니다.");
+        }
+    }
+
+    public ItunesSearchRequest(String query, SearchMode mode, int offset, int limit) {
+        this(query, mode, offset, limit, List.of());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.musicBackend.external.itunes.dto;
+
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+
+import java.util.List;
+
+/**
+ * 검색 결과 + 대체 응답 여부
+ * degraded = true 이면 iTunes 장애로 만료된 캐시나 로컬 DB 결과를 대신 반환한 것
+ * storefronts: 국가별 스토어 검색에서 결과를 보내온 국가 (기본 스토어만 검색한 경우 빈 목록)
+ */
+public record ItunesSearchResult(
+        List<TrackSearchResponseDto> tracks,
+        boolean degraded,
+        List<String> storefronts
+) {
+    public static ItunesSearchResult of(List<TrackSearchResponseDto> tracks) {
+        return new ItunesSearchResult(tracks, false, List.of());
+    }
+
+    public static ItunesSearchResult degraded(List<TrackSearchResponseDto> tracks) {
+        return new ItunesSearchResult(tracks, true, List.of());
+    }
+
+    public static ItunesSearchResult fromStorefronts(List<TrackSearchResponseDto> tracks, List<String> storefronts) {
+        return new ItunesSearchResult(tracks, false, storefronts);
+    }
+}
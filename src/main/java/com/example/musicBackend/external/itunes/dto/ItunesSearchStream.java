@@ -0,0 +1,28 @@
+package com.example.musicBackend.external.itunes.dto;
+
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * 스트리밍 검색 결과 - 첫 곡을 보내기 전에 정해지는 응답 정보(대체 응답 여부, 결과를 보내온 국가) + 곡 스트림
+ * 일부 곡을 보낸 뒤 iTunes 호출이 실패하면 tracks는 에러로 끝남 (정상 종료와 구분되도록)
+ */
+public record ItunesSearchStream(
+        Flux<TrackSearchResponseDto> tracks,
+        boolean degraded,
+        List<String> storefronts
+) {
+    public static ItunesSearchStream of(Flux<TrackSearchResponseDto> tracks) {
+        return new ItunesSearchStream(tracks, false, List.of());
+    }
+
+    public static ItunesSearchStream degraded(List<TrackSearchResponseDto> tracks) {
+        return new ItunesSearchStream(Flux.fromIterable(tracks), true, List.of());
+    }
+
+    public static ItunesSearchStream from(ItunesSearchResult result) {
+        return new ItunesSearchStream(Flux.fromIterable(result.tracks()), result.degraded(), result.storefronts());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.musicBackend.external.itunes.dto;
 
+import com.example.musicBackend.feature.track.domain.Track;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Data;
 
@@ -15,4 +16,18 @@ public class ItunesTrackDto {
     private String releaseDate;
     private String previewUrl;
     private String primaryGenreName;
-}
\ No newline at end of file
+
+    public Track toEntity() {
+        return Track.builder()
+                .trackId(trackId)
+                .title(trackName)
+                .artist(artistName)
+                .album(collectionName)
+                .durationMs(trackTimeMillis != null ? trackTimeMillis.intValue() : null)
+                .albumCoverUrl(artworkUrl100)
+                .releaseDate(releaseDate)
+                .previewUrl(previewUrl)
+                .primaryGenreName(primaryGenreName)
+                .build();
+    }
+}
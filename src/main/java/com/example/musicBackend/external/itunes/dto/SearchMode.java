@@ -0,0 +1,21 @@
+package com.example.musicBackend.external.itunes.dto;
+
+/**
+ * 곡 검색 방식
+ */
+public enum SearchMode {
+    /**
+     * iTunes 검색 (기본값)
+     */
+    REMOTE,
+
+    /**
+     * 로컬 인덱스(저장된 곡)만 검색
+     */
+    LOCAL,
+
+    /**
+     * 로컬 인덱스를 먼저 검색하고 결과가 없을 때만 iTunes 검색
+     */
+    LOCAL_FIRST
+}
@@ -0,0 +1,34 @@
+package com.example.musicBackend.external.itunes.ratelimit;
+
+/**
+ * iTunes 호출 우선순위 (선언 순서대로 먼저 처리)
+ */
+public enum ItunesCallPriority {
+    /**
+     * 플레이리스트 곡 추가를 위한 lookup (사용자가 확정한 쓰기)
+     */
+    PLAYLIST_ADD("playlist_add"),
+
+    /**
+     * 사용자 검색
+     */
+    SEARCH("search"),
+
+    /**
+     * 백그라운드 메타데이터 갱신
+     */
+    BACKGROUND("background");
+
+    private final String tag;
+
+    ItunesCallPriority(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * 지표 태그 값
+     */
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.musicBackend.external.itunes.ratelimit;
+
+/**
+ * iTunes 호출 속도 제한 대기열이 가득 찼거나 대기 시간이 초과됨
+ */
+public class ItunesRateLimitException extends RuntimeException {
+
+    public ItunesRateLimitException(String message) {
+        super(message);
+    }
+}
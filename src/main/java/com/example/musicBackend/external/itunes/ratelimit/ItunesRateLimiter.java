@@ -0,0 +1,251 @@
+package com.example.musicBackend.external.itunes.ratelimit;
+
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * iTunes 호출 속도 제한 (토큰 버킷)
+ * 토큰이 없으면 우선순위별 대기열에서 기다리고, 토큰이 생기면 우선순위가 높은 대기열부터 처리
+ * (PLAYLIST_ADD > SEARCH > BACKGROUND) - 검색이 몰려도 곡 추가 lookup이 밀리지 않음
+ * 대기열마다 최대 대기 수와 대기 시간이 있고, 넘으면 ItunesRateLimitException
+ * 지표(priority 태그): itunes.ratelimit.queue (대기 수), itunes.ratelimit.wait (대기 시간),
+ * itunes.ratelimit.rejected (거절 수, reason=queue_full|timeout)
+ */
+@Component
+public class ItunesRateLimiter {
+
+    private final ItunesProperties.RateLimit config;
+    private final Scheduler scheduler = Schedulers.newSingle("itunes-rate-limiter", true);
+
+    private final Map<ItunesCallPriority, Deque<Waiter>> queues = new EnumMap<>(ItunesCallPriority.class);
+    private final Map<ItunesCallPriority, Timer> waitTimers = new EnumMap<>(ItunesCallPriority.class);
+    private final Map<ItunesCallPriority, Counter> queueFullCounters = new EnumMap<>(ItunesCallPriority.class);
+    private final Map<ItunesCallPriority, Counter> timeoutCounters = new EnumMap<>(ItunesCallPriority.class);
+
+    // 아래 상태는 this로 동기화
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+    private boolean drainScheduled;
+
+    /**
+     * 토큰을 기다리는 호출
+     * claimed: drain(토큰 전달)과 취소(대기 시간 초과 등) 중 먼저 가져간 쪽만 처리
+     */
+    private record Waiter(MonoSink<Void> sink, long enqueuedNanos, AtomicBoolean claimed) {
+
+        Waiter(MonoSink<Void> sink, long enqueuedNanos) {
+            this(sink, enqueuedNanos, new AtomicBoolean());
+        }
+
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    public ItunesRateLimiter(ItunesProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getRateLimit();
+        this.tokens = config.getBurst();
+
+        for (ItunesCallPriority priority : ItunesCallPriority.values()) {
+            Deque<Waiter> queue = new ArrayDeque<>();
+            queues.put(priority, queue);
+
+            Gauge.builder("itunes.ratelimit.queue", this, limiter -> limiter.queued(priority))
+                    .description("iTunes 호출 토큰 대기 수")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("itunes.ratelimit.wait")
+                    .description("iTunes 호출 토큰 대기 시간")
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry));
+            queueFullCounters.put(priority, rejectedCounter(meterRegistry, priority, "queue_full"));
+            timeoutCounters.put(priority, rejectedCounter(meterRegistry, priority, "timeout"));
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, ItunesCallPriority priority, String reason) {
+        return Counter.builder("itunes.ratelimit.rejected")
+                .description("속도 제한으로 거절된 iTunes 호출 수")
+                .tag("priority", priority.tag())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 토큰 하나를 얻으면 완료되는 Mono
+     * 대기열이 가득 찼거나 대기 시간이 지나면 ItunesRateLimitException
+     */
+    public Mono<Void> acquire(ItunesCallPriority priority) {
+        ItunesProperties.WaitQueue queueConfig = queueConfig(priority);
+
+        Mono<Void> permit = Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, System.nanoTime());
+            boolean granted;
+            synchronized (this) {
+                refill();
+                Deque<Waiter> queue = queues.get(priority);
+                if (tokens >= 1 && !hasWaitersAtOrAbove(priority)) {
+                    tokens -= 1;
+                    granted = true;
+                } else if (queue.size() >= queueConfig.getMaxQueued()) {
+                    queueFullCounters.get(priority).increment();
+                    sink.error(new ItunesRateLimitException(
+                            "iTunes 호출 대기열이 가득 찼습니다. (" + priority.tag() + ")"));
+                    return;
+                } else {
+                    queue.addLast(waiter);
+                    scheduleDrain();
+                    granted = false;
+                }
+            }
+
+            if (granted) {
+                waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                sink.success();
+            } else {
+                // 대기 시간 초과/구독 취소 시 대기열에서 제거 (drain이 이미 가져갔으면 drain 쪽에서 토큰 반환)
+                sink.onCancel(() -> {
+                    if (waiter.claim()) {
+                        remove(priority, waiter);
+                    }
+                });
+            }
+        });
+
+        return permit
+                .timeout(queueConfig.getTimeout())
+                .onErrorMap(TimeoutException.class, e -> {
+                    timeoutCounters.get(priority).increment();
+                    return new ItunesRateLimitException(
+                            "iTunes 호출 대기 시간이 초과되었습니다. (" + priority.tag() + ")");
+                });
+    }
+
+    /**
+     * 쌓인 토큰만큼 우선순위가 높은 대기열부터 깨움
+     */
+    private void drain() {
+        List<Map.Entry<ItunesCallPriority, Waiter>> granted = new ArrayList<>();
+        synchronized (this) {
+            drainScheduled = false;
+            refill();
+            while (tokens >= 1) {
+                Map.Entry<ItunesCallPriority, Waiter> next = pollHighestPriority();
+                if (next == null) {
+                    break;
+                }
+                tokens -= 1;
+                granted.add(next);
+            }
+            scheduleDrain();
+        }
+
+        long now = System.nanoTime();
+        int unused = 0;
+        for (Map.Entry<ItunesCallPriority, Waiter> entry : granted) {
+            Waiter waiter = entry.getValue();
+            if (!waiter.claim()) {
+                // 대기열에서 꺼낸 뒤 취소된 호출 - 호출이 일어나지 않으므로 토큰 반환
+                unused++;
+                continue;
+            }
+            waitTimers.get(entry.getKey()).record(now - waiter.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            waiter.sink().success();
+        }
+        if (unused > 0) {
+            returnTokens(unused);
+        }
+    }
+
+    private synchronized void returnTokens(int count) {
+        refill();
+        tokens = Math.min(config.getBurst(), tokens + count);
+        scheduleDrain();
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double refilled = (now - lastRefillNanos) * config.getPermitsPerSecond() / TimeUnit.SECONDS.toNanos(1);
+        tokens = Math.min(config.getBurst(), tokens + refilled);
+        lastRefillNanos = now;
+    }
+
+    /**
+     * 대기 중인 호출이 있으면 다음 토큰이 생길 시점에 drain 예약
+     */
+    private void scheduleDrain() {
+        if (drainScheduled || !hasWaitersAtOrAbove(ItunesCallPriority.BACKGROUND)) { // 모든 대기열
+            return;
+        }
+        long delayNanos = tokens >= 1
+                ? 0
+                : (long) Math.ceil((1 - tokens) / config.getPermitsPerSecond() * TimeUnit.SECONDS.toNanos(1));
+        drainScheduled = true;
+        scheduler.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Map.Entry<ItunesCallPriority, Waiter> pollHighestPriority() {
+        for (ItunesCallPriority priority : ItunesCallPriority.values()) {
+            Waiter waiter = queues.get(priority).pollFirst();
+            if (waiter != null) {
+                return Map.entry(priority, waiter);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * priority와 같거나 높은 우선순위의 대기 호출이 있는지 (새 호출이 먼저 기다리던 호출을 앞지르지 않도록)
+     */
+    private boolean hasWaitersAtOrAbove(ItunesCallPriority priority) {
+        for (ItunesCallPriority candidate : ItunesCallPriority.values()) {
+            if (!queues.get(candidate).isEmpty()) {
+                return true;
+            }
+            if (candidate == priority) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void remove(ItunesCallPriority priority, Waiter waiter) {
+        queues.get(priority).remove(waiter);
+    }
+
+    private synchronized int queued(ItunesCallPriority priority) {
+        return queues.get(priority).size();
+    }
+
+    private ItunesProperties.WaitQueue queueConfig(ItunesCallPriority priority) {
+        return switch (priority) {
+            case PLAYLIST_ADD -> config.getPlaylistAdd();
+            case SEARCH -> config.getSearch();
+            case BACKGROUND -> config.getBackground();
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.musicBackend.external.itunes.refresh;
+
+import com.example.musicBackend.external.itunes.client.ItunesClient;
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import com.example.musicBackend.external.itunes.dto.ItunesResponse;
+import com.example.musicBackend.external.itunes.dto.ItunesTrackDto;
+import com.example.musicBackend.external.itunes.ratelimit.ItunesCallPriority;
+import com.example.musicBackend.feature.track.domain.Track;
+import com.example.musicBackend.feature.track.repository.TrackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 오래된 곡 메타데이터(앨범 커버, 미리듣기 URL 등)를 iTunes에서 다시 받아 갱신하는 백그라운드 작업
+ * cachedAt이 max-age보다 오래된 곡을 (cachedAt, id) 커서 순서로 batch-size씩 lookup
+ * 한 번 실행에 최대 max-batches-per-run 요청만 보내고, 다음 실행은 커서 위치부터 이어서 진행
+ * 바뀐 곡만 UPDATE하고, 그대로인 곡과 iTunes에서 찾을 수 없는 곡은 cachedAt만 일괄 갱신
+ * 전용 스레드에서만 실행되므로 요청 스레드와 공용 스케줄러 스레드(@Scheduled 작업)를 점유하지 않음
+ * (lookup 대기와 요청 사이 대기 동안 블로킹하므로 공용 스케줄러에 등록하지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "itunes.refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TrackRefreshJob {
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ItunesClient itunesClient;
+    private final TrackRepository trackRepository;
+    private final ItunesProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter changedCounter;
+    private final Counter unchangedCounter;
+    private final Counter missingCounter;
+
+    // 마지막으로 처리한 곡 위치 (한 바퀴를 다 돌면 처음으로)
+    private LocalDateTime cursorCachedAt = CURSOR_START;
+    private Long cursorId = 0L;
+
+    private ScheduledExecutorService executor;
+
+    public TrackRefreshJob(ItunesClient itunesClient, TrackRepository trackRepository, ItunesProperties properties,
+                           TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.itunesClient = itunesClient;
+        this.trackRepository = trackRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.changedCounter = refreshCounter(meterRegistry, "changed");
+        this.unchangedCounter = refreshCounter(meterRegistry, "unchanged");
+        this.missingCounter = refreshCounter(meterRegistry, "missing");
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("itunes.refresh.tracks")
+                .description("메타데이터 갱신 작업에서 처리한 곡 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        ItunesProperties.Refresh refresh = properties.getRefresh();
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "itunes-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::runSafely, refresh.getInitialDelay().toMillis(),
+                refresh.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 진행 중인 대기(lookup, pause)를 깨워서 바로 멈춤
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // 예외가 밖으로 나가면 ScheduledExecutorService가 이후 실행을 모두 취소하므로 여기서 막음
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.error("❌ 곡 메타데이터 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 한 번의 실행 (최대 max-batches-per-run개의 lookup 요청)
+     */
+    public synchronized void run() {
+        ItunesProperties.Refresh refresh = properties.getRefresh();
+        LocalDateTime cutoff = LocalDateTime.now().minus(refresh.getMaxAge());
+        int batchSize = properties.getLookup().getBatchSize();
+
+        for (int batch = 0; batch < refresh.getMaxBatchesPerRun(); batch++) {
+            List<Track> staleTracks = trackRepository.findStaleAfter(cutoff, cursorCachedAt, cursorId, Limit.of(batchSize));
+            if (staleTracks.isEmpty()) {
+                if (cursorId != 0L) {
+                    log.info("🔄 곡 메타데이터 갱신 한 바퀴 완료");
+                }
+                resetCursor();
+                return;
+            }
+
+            try {
+                refreshBatch(staleTracks);
+            } catch (RuntimeException e) {
+                // 커서를 옮기지 않고 다음 실행에서 같은 위치부터 다시 시도
+                log.warn("⚠️ 곡 메타데이터 갱신 중단 - 원인: {}", e.toString());
+                return;
+            }
+
+            Track last = staleTracks.get(staleTracks.size() - 1);
+            cursorCachedAt = last.getCachedAt();
+            cursorId = last.getId();
+
+            if (!pause(refresh)) {
+                return;
+            }
+        }
+    }
+
+    private void refreshBatch(List<Track> staleTracks) {
+        List<Long> trackIds = staleTracks.stream()
+                .map(Track::getTrackId)
+                .collect(Collectors.toList());
+
+        ItunesResponse response = itunesClient.lookup(trackIds, ItunesCallPriority.BACKGROUND).block();
+        Map<Long, Track> latestTracks = response == null || response.getResults() == null
+                ? Map.of()
+                : response.getResults().stream()
+                        .filter(itunesTrack -> itunesTrack.getTrackId() != null)
+                        .collect(Collectors.toMap(ItunesTrackDto::getTrackId, ItunesTrackDto::toEntity,
+                                (first, second) -> first));
+
+        List<Long> ids = staleTracks.stream()
+                .map(Track::getId)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Track> tracks = trackRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Track::getId, Function.identity()));
+
+            List<Long> touchedIds = new ArrayList<>();
+            int changed = 0;
+            int unchanged = 0;
+            int missing = 0;
+            for (Track track : tracks.values()) {
+                Track latest = latestTracks.get(track.getTrackId());
+                if (latest == null) {
+                    // iTunes에서 내려간 곡 - 기존 정보 유지, cachedAt은 갱신해서 max-age 뒤에 다시 확인
+                    // (갱신하지 않으면 매 바퀴마다 다시 조회해서 BACKGROUND 호출 한도를 소모)
+                    missing++;
+                    touchedIds.add(track.getId());
+                } else if (track.refreshFrom(latest)) {
+                    changed++;
+                } else {
+                    unchanged++;
+                    touchedIds.add(track.getId());
+                }
+            }
+            if (!touchedIds.isEmpty()) {
+                trackRepository.touchCachedAt(touchedIds, LocalDateTime.now());
+            }
+
+            changedCounter.increment(changed);
+            unchangedCounter.increment(unchanged);
+            missingCounter.increment(missing);
+            log.info("🔄 곡 메타데이터 갱신 - 변경: {}, 동일: {}, 조회 실패: {}", changed, unchanged, missing);
+        });
+    }
+
+    private boolean pause(ItunesProperties.Refresh refresh) {
+        try {
+            Thread.sleep(refresh.getPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void resetCursor() {
+        cursorCachedAt = CURSOR_START;
+        cursorId = 0L;
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.musicBackend.external.itunes.service;
 
+import com.example.musicBackend.external.itunes.dto.ItunesSearchRequest;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchResult;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchStream;
 import com.example.musicBackend.feature.track.domain.Track;
-import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.example.musicBackend.feature.track.dto.TrackSuggestionDto;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 public interface ItunesService {
-    List<TrackSearchResponseDto> searchTracks(String query);
+    Mono<ItunesSearchResult> searchTracks(ItunesSearchRequest request);
+
+    Mono<ItunesSearchStream> streamSearchTracks(ItunesSearchRequest request);
+
+    List<TrackSuggestionDto> suggest(String prefix, int limit);
 
     Track getOrCreateTrackEntity(Long trackId);
+
+    List<Track> getOrCreateTrackEntities(List<Long> trackIds);
 }
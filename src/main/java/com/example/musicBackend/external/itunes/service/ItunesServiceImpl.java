@@ -1,20 +1,51 @@
 package com.example.musicBackend.external.itunes.service;
 
+import com.example.musicBackend.external.itunes.cache.ItunesNegativeCache;
+import com.example.musicBackend.external.itunes.cache.ItunesSearchCache;
+import com.example.musicBackend.external.itunes.client.ItunesClient;
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
 import com.example.musicBackend.external.itunes.dto.ItunesResponse;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchRequest;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchResult;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchStream;
 import com.example.musicBackend.external.itunes.dto.ItunesTrackDto;
+import com.example.musicBackend.external.itunes.dto.SearchMode;
+import com.example.musicBackend.external.itunes.ratelimit.ItunesCallPriority;
+import com.example.musicBackend.external.itunes.writebehind.SearchResultWriteBehind;
 import com.example.musicBackend.feature.track.domain.Track;
 import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.example.musicBackend.feature.track.dto.TrackSuggestionDto;
 import com.example.musicBackend.feature.track.repository.TrackRepository;
+import com.example.musicBackend.feature.track.search.TrackSearchIndex;
+import com.example.musicBackend.feature.track.search.TrackSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,103 +53,437 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ItunesServiceImpl implements ItunesService {
 
-    private final WebClient webClient;
+    private final ItunesClient itunesClient;
     private final TrackRepository trackRepository;
-    private static final String ITUNES_SEARCH_URL = "https://itunes.apple.com/search";
-    private static final String ITUNES_LOOKUP_URL = "https://itunes.apple.com/lookup";
+    private final ItunesSearchCache searchCache;
+    private final ItunesNegativeCache negativeCache;
+    private final TrackSearchIndex trackSearchIndex;
+    private final TrackSuggestIndex trackSuggestIndex;
+    private final SearchResultWriteBehind searchResultWriteBehind;
+    private final ItunesProperties properties;
+    private final PlatformTransactionManager transactionManager;
 
+    // trackId별 진행 중인 조회/저장 (동시 요청은 하나의 조회 결과를 공유)
+    private final ConcurrentMap<Long, CompletableFuture<Track>> inFlightTracks = new ConcurrentHashMap<>();
+
+    /**
+     * 곡 검색 (논블로킹)
+     * 캐시 적중 시 바로 반환하고, 아니면 iTunes 응답을 기다리지 않고 Mono로 반환함
+     * iTunes 호출이 실패하거나 서킷이 열려 있으면 대체 결과(degraded)를 반환
+     * LOCAL: 로컬 인덱스만 검색, LOCAL_FIRST: 로컬 인덱스에 결과가 없을 때만 iTunes 검색
+     */
     @Override
-    public List<TrackSearchResponseDto> searchTracks(String query) {
-        log.info("🔍 iTunes 검색 시작 (WebClient) - query: {}", query);
+    public Mono<ItunesSearchResult> searchTracks(ItunesSearchRequest request) {
+        String normalizedQuery = ItunesSearchCache.normalize(request.query());
+        if (normalizedQuery.isEmpty()) {
+            return Mono.just(ItunesSearchResult.of(Collections.emptyList()));
+        }
 
-        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_SEARCH_URL)
-                .queryParam("term", query)
-                .queryParam("media", "music")
-                .queryParam("entity", "song")
-                .queryParam("limit", 20)
-                .toUriString();
+        SearchMode mode = request.mode();
+        if (mode == SearchMode.LOCAL || mode == SearchMode.LOCAL_FIRST) {
+            List<TrackSearchResponseDto> local = searchLocal(normalizedQuery, request.offset(), request.limit());
+            if (mode == SearchMode.LOCAL || !local.isEmpty()) {
+                log.debug("로컬 인덱스 검색 - query: {}, 결과 수: {}", normalizedQuery, local.size());
+                return Mono.just(ItunesSearchResult.of(local));
+            }
+        }
 
-        try {
-            ItunesResponse response = webClient.get()
-                    .uri(uriString)
-                    .retrieve()
-                    .bodyToMono(ItunesResponse.class)
-                    .block();
-
-            if (response == null || response.getResults() == null) {
-                log.warn("iTunes API로부터 응답이 없거나 결과가 비어있습니다.");
-                return Collections.emptyList();
+        if (!request.countries().isEmpty()) {
+            return searchStorefronts(normalizedQuery, request.countries(), request.offset(), request.limit());
+        }
+
+        return searchPage(normalizedQuery, null, request.offset(), request.limit())
+                .collectList()
+                .map(ItunesSearchResult::of)
+                .onErrorResume(e -> Mono.just(ItunesSearchResult.degraded(
+                        fallbackSearchResults(normalizedQuery, request.offset(), request.limit(), e))));
+    }
+
+    /**
+     * 여러 국가 스토어에 동시에 검색하고 trackId 기준으로 중복 제거해서 합침
+     * 스토어마다 offset + limit개까지 받고, 합친 목록은 국가 순서대로 번갈아 가며 채움
+     * 전체 제한 시간(fan-out.deadline)이 지나면 그때까지 받은 곡만으로 응답 (실패/지연된 스토어는 제외)
+     * 모든 스토어가 실패해서 받은 곡이 없으면 로컬 인덱스 결과를 대체 응답으로 반환
+     */
+    private Mono<ItunesSearchResult> searchStorefronts(String normalizedQuery, List<String> countries,
+                                                       int offset, int limit) {
+        checkFanOutRequests(countries.size(), offset, limit);
+        Duration deadline = properties.getSearch().getFanOut().getDeadline();
+        Map<String, List<TrackSearchResponseDto>> received = new HashMap<>();
+        AtomicInteger failed = new AtomicInteger();
+
+        return Flux.fromIterable(countries)
+                .flatMap(country -> searchPage(normalizedQuery, country, 0, offset + limit)
+                        .map(track -> Map.entry(country, track))
+                        .onErrorResume(e -> {
+                            failed.incrementAndGet();
+                            log.warn("⚠️ iTunes 스토어 검색 실패 - country: {}, query: {}, 원인: {}",
+                                    country, normalizedQuery, e.toString());
+                            return Flux.empty();
+                        }), countries.size())
+                .takeUntilOther(Mono.delay(deadline))
+                .doOnNext(entry -> received.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(entry.getValue()))
+                .then(Mono.fromSupplier(() -> {
+                    List<String> storefronts = countries.stream()
+                            .filter(country -> !received.getOrDefault(country, List.of()).isEmpty())
+                            .toList();
+                    if (storefronts.isEmpty() && failed.get() > 0) {
+                        return ItunesSearchResult.degraded(
+                                fallbackSearchResults(normalizedQuery, offset, limit,
+                                        new RuntimeException("모든 스토어 검색 실패: " + countries)));
+                    }
+                    List<TrackSearchResponseDto> merged = mergeStorefronts(storefronts, received);
+                    int from = Math.min(offset, merged.size());
+                    return ItunesSearchResult.fromStorefronts(
+                            merged.subList(from, Math.min(from + limit, merged.size())), storefronts);
+                }));
+    }
+
+    /**
+     * 국가 수 × 스토어별 구간 수가 호출 속도 제한의 버킷 크기(rate-limit.burst)를 넘으면 400
+     * 넘으면 한 요청이 버킷을 다 쓰고 나머지는 검색 대기열에서 기다리다 실패하므로 미리 거절
+     */
+    private void checkFanOutRequests(int countries, int offset, int limit) {
+        int windowSize = properties.getSearch().getWindowSize();
+        int burst = properties.getRateLimit().getBurst();
+        int windows = (offset + limit + windowSize - 1) / windowSize;
+        if (countries * windows > burst) {
+            int maxEnd = Math.max(1, burst / countries) * windowSize;
+            throw new IllegalArgumentException("country를 " + countries + "개 지정하면 offset + limit은 최대 "
+                    + maxEnd + "까지 조회할 수 있습니다.");
+        }
+    }
+
+    private List<TrackSearchResponseDto> mergeStorefronts(List<String> storefronts,
+                                                          Map<String, List<TrackSearchResponseDto>> received) {
+        List<List<TrackSearchResponseDto>> lists = storefronts.stream()
+                .map(received::get)
+                .toList();
+
+        Map<String, TrackSearchResponseDto> merged = new LinkedHashMap<>();
+        int longest = lists.stream().mapToInt(List::size).max().orElse(0);
+        for (int i = 0; i < longest; i++) {
+            for (List<TrackSearchResponseDto> tracks : lists) {
+                if (i < tracks.size()) {
+                    merged.putIfAbsent(tracks.get(i).trackId(), tracks.get(i));
+                }
             }
+        }
+        return new ArrayList<>(merged.values());
+    }
 
-            log.info("✅ iTunes 검색 완료 - 결과 수: {}", response.getResultCount());
+    /**
+     * 곡 검색 스트리밍 - iTunes 응답에서 곡이 파싱되는 대로 하나씩 내보냄
+     * 첫 신호(첫 곡/완료/에러)를 받은 뒤에 응답 정보를 정함 - 아무 곡도 보내기 전에 iTunes 호출이 실패하면
+     * 대체 결과를 degraded로 내보내고, 일부를 보낸 뒤 실패하면 에러를 그대로 전달 (잘린 목록이 정상 종료로 보이지 않도록)
+     */
+    @Override
+    public Mono<ItunesSearchStream> streamSearchTracks(ItunesSearchRequest request) {
+        String normalizedQuery = ItunesSearchCache.normalize(request.query());
+        if (normalizedQuery.isEmpty()) {
+            return Mono.just(ItunesSearchStream.of(Flux.empty()));
+        }
 
-            return response.getResults().stream()
-                    .map(this::mapToTrackSearchResponseDto)
-                    .collect(Collectors.toList());
+        SearchMode mode = request.mode();
+        if (mode == SearchMode.LOCAL || mode == SearchMode.LOCAL_FIRST) {
+            List<TrackSearchResponseDto> local = searchLocal(normalizedQuery, request.offset(), request.limit());
+            if (mode == SearchMode.LOCAL || !local.isEmpty()) {
+                return Mono.just(ItunesSearchStream.of(Flux.fromIterable(local)));
+            }
+        }
 
-        } catch (Exception e) {
-            log.error("❌ iTunes 검색 실패 (WebClient)", e);
-            throw new RuntimeException("Failed to search tracks from iTunes", e);
+        if (!request.countries().isEmpty()) {
+            // 스토어별 결과를 합쳐야 순서가 정해지므로 합친 뒤 한꺼번에 내보냄
+            return searchStorefronts(normalizedQuery, request.countries(), request.offset(), request.limit())
+                    .map(ItunesSearchStream::from);
         }
+
+        // 첫 신호만 먼저 확인하고 나머지는 응답 본문이 그대로 이어 받음 (한 번만 구독)
+        // 응답 정보를 정한 뒤에도 원본 구독을 유지하고, 클라이언트가 끊으면 본문 구독 취소가 iTunes 요청까지 전달됨
+        return searchPage(normalizedQuery, null, request.offset(), request.limit())
+                .doOnError(e -> log.warn("⚠️ iTunes 검색 스트리밍 중단 - query: {}, 원인: {}", normalizedQuery, e.toString()))
+                .switchOnFirst((first, tracks) -> Mono.just(first.isOnError()
+                        ? ItunesSearchStream.degraded(fallbackSearchResults(normalizedQuery, request.offset(),
+                                request.limit(), first.getThrowable()))
+                        : ItunesSearchStream.of(tracks)), false)
+                .single();
     }
 
+    /**
+     * 검색어 자동완성 - iTunes 호출 없이 저장된 곡의 제목/아티스트에서 찾음
+     */
+    @Override
+    public List<TrackSuggestionDto> suggest(String prefix, int limit) {
+        return trackSuggestIndex.suggest(prefix, Math.min(limit, TrackSuggestIndex.MAX_SUGGESTIONS));
+    }
+
+    /**
+     * offset/limit 구간의 검색 결과 (country가 null이면 기본 스토어)
+     * window-size 단위 구간으로 나눠 구간별로 캐시하고, 캐시에 없는 구간만 iTunes에 요청 (여러 구간은 동시에 요청, 순서대로 내보냄)
+     */
+    private Flux<TrackSearchResponseDto> searchPage(String normalizedQuery, String country, int offset, int limit) {
+        int windowSize = properties.getSearch().getWindowSize();
+        int firstWindow = offset / windowSize * windowSize;
+        int lastWindow = (offset + limit - 1) / windowSize * windowSize;
+
+        List<Flux<TrackSearchResponseDto>> windows = new ArrayList<>();
+        for (int windowStart = firstWindow; windowStart <= lastWindow; windowStart += windowSize) {
+            windows.add(searchWindow(normalizedQuery, country, windowStart, windowSize));
+        }
+
+        // 구간 전체를 받아야 캐시할 수 있으므로 take 대신 index로 잘라냄
+        return Flux.mergeSequential(windows)
+                .index()
+                .filter(indexed -> indexed.getT1() >= offset - firstWindow
+                        && indexed.getT1() < offset - firstWindow + limit)
+                .map(Tuple2::getT2);
+    }
+
+    private Flux<TrackSearchResponseDto> searchWindow(String normalizedQuery, String country, int windowStart,
+                                                      int windowSize) {
+        return Flux.defer(() -> {
+            String key = ItunesSearchCache.windowKey(normalizedQuery, country, windowStart);
+            Optional<List<TrackSearchResponseDto>> cached = searchCache.get(key);
+            if (cached.isPresent()) {
+                log.debug("iTunes 검색 캐시 적중 - query: {}, offset: {}", normalizedQuery, windowStart);
+                return Flux.fromIterable(cached.get());
+            }
+            // 첫 구간이 0건이면 뒤 구간도 0건
+            if (negativeCache.isEmptySearch(key)
+                    || negativeCache.isEmptySearch(ItunesSearchCache.windowKey(normalizedQuery, country, 0))) {
+                log.debug("결과 없는 검색어 캐시 적중 - query: {}, offset: {}", normalizedQuery, windowStart);
+                return Flux.empty();
+            }
+
+            log.info("🔍 iTunes 검색 시작 (WebClient) - query: {}, country: {}, offset: {}",
+                    normalizedQuery, country, windowStart);
+            List<TrackSearchResponseDto> results = new ArrayList<>();
+            return itunesClient.streamSearch(normalizedQuery, country, windowStart, windowSize)
+                    .doOnNext(results::add)
+                    .doOnComplete(() -> {
+                        log.info("✅ iTunes 검색 완료 - 결과 수: {}", results.size());
+                        if (results.isEmpty()) {
+                            negativeCache.putEmptySearch(key);
+                            return;
+                        }
+                        searchCache.put(key, results);
+                        // 검색 결과에서 곡을 추가할 때 iTunes 조회가 필요 없도록 비동기 저장
+                        searchResultWriteBehind.enqueue(results);
+                    })
+                    .doOnCancel(() -> log.info("iTunes 검색 취소 (클라이언트 연결 종료) - query: {}", normalizedQuery));
+        });
+    }
+
+    private List<TrackSearchResponseDto> searchLocal(String normalizedQuery, int offset, int limit) {
+        List<TrackSearchResponseDto> results = trackSearchIndex.search(normalizedQuery, offset + limit);
+        return offset >= results.size() ? Collections.emptyList() : results.subList(offset, results.size());
+    }
+
+    /**
+     * iTunes 장애 시 대체 검색 결과
+     * 1. 같은 검색어/구간의 만료된 캐시 결과
+     * 2. 없으면 로컬 인덱스(저장된 곡) 검색 결과
+     */
+    private List<TrackSearchResponseDto> fallbackSearchResults(String normalizedQuery, int offset, int limit,
+                                                               Throwable cause) {
+        log.warn("⚠️ iTunes 검색 실패, 대체 결과 반환 - query: {}, 원인: {}", normalizedQuery, cause.toString());
+
+        int windowSize = properties.getSearch().getWindowSize();
+        int firstWindow = offset / windowSize * windowSize;
+        List<TrackSearchResponseDto> stale = new ArrayList<>();
+        for (int windowStart = firstWindow; windowStart < offset + limit; windowStart += windowSize) {
+            Optional<List<TrackSearchResponseDto>> window =
+                    searchCache.getStale(ItunesSearchCache.windowKey(normalizedQuery, null, windowStart));
+            if (window.isEmpty()) {
+                return searchLocal(normalizedQuery, offset, limit);
+            }
+            stale.addAll(window.get());
+        }
+
+        int from = Math.min(offset - firstWindow, stale.size());
+        return stale.subList(from, Math.min(from + limit, stale.size()));
+    }
+
+    /**
+     * DB에 없는 곡은 iTunes에서 조회 후 저장
+     * 같은 trackId에 대한 동시 요청은 하나의 조회/저장만 수행하고 결과를 공유함
+     */
     @Override
-    @Transactional
     public Track getOrCreateTrackEntity(Long trackId) {
         Optional<Track> existingTrack = trackRepository.findByTrackId(trackId);
         if (existingTrack.isPresent()) {
             return existingTrack.get();
         }
 
+        CompletableFuture<Track> newLoad = new CompletableFuture<>();
+        CompletableFuture<Track> inFlight = inFlightTracks.putIfAbsent(trackId, newLoad);
+        if (inFlight != null) {
+            log.debug("진행 중인 곡 조회 대기 - trackId: {}", trackId);
+            return awaitInFlight(inFlight);
+        }
+
+        try {
+            Track track = loadAndSaveTrack(trackId);
+            newLoad.complete(track);
+            return track;
+        } catch (RuntimeException e) {
+            newLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightTracks.remove(trackId, newLoad);
+        }
+    }
+
+    /**
+     * iTunes 조회는 트랜잭션 밖에서 먼저 하고, 재확인/저장만 별도 트랜잭션에서 짧게 커밋
+     * 응답을 기다리는 동안(대기열 + 타임아웃) DB 커넥션을 잡고 있지 않도록 함
+     * 대기 중인 요청들이 커밋된 곡을 바로 참조할 수 있도록 호출자 트랜잭션과 분리함
+     */
+    private Track loadAndSaveTrack(Long trackId) {
         ItunesTrackDto itunesTrack = fetchTrackFromApi(trackId);
-        Track track = mapToEntity(itunesTrack);
-        return trackRepository.save(track);
+        TransactionTemplate transactionTemplate = requiresNewTransaction();
+
+        try {
+            // 조회하는 동안 다른 요청이 저장을 끝냈을 수 있으므로 한 번 더 확인
+            return transactionTemplate.execute(status -> trackRepository.findByTrackId(trackId)
+                    .orElseGet(() -> trackRepository.save(itunesTrack.toEntity())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 저장한 경우 (tracks.track_id 유니크 제약)
+            log.info("이미 저장된 곡 - trackId: {}", trackId);
+            return transactionTemplate.execute(status -> trackRepository.findByTrackId(trackId)
+                    .orElseThrow(() -> e));
+        }
+    }
+
+    /**
+     * 여러 곡을 한 번에 조회/저장 (요청 순서 유지, 중복 id 제거)
+     * DB에 없는 곡만 iTunes lookup(id=a,b,c)으로 묶어서 조회함
+     */
+    @Override
+    public List<Track> getOrCreateTrackEntities(List<Long> trackIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(trackIds));
+
+        Map<Long, Track> tracks = new HashMap<>();
+        for (Track track : trackRepository.findByTrackIdIn(distinctIds)) {
+            tracks.put(track.getTrackId(), track);
+        }
+
+        List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !tracks.containsKey(id))
+                .collect(Collectors.toList());
+
+        if (!missingIds.isEmpty()) {
+            List<Long> knownMissingIds = missingIds.stream()
+                    .filter(negativeCache::isMissingTrack)
+                    .collect(Collectors.toList());
+            if (!knownMissingIds.isEmpty()) {
+                log.warn("iTunes에 없는 곡 (캐시) - trackIds: {}", knownMissingIds);
+                throw new RuntimeException("Failed to get tracks from iTunes API: " + knownMissingIds);
+            }
+
+            Map<Long, ItunesTrackDto> fetched = fetchTracksFromApi(missingIds);
+
+            List<Long> notFoundIds = missingIds.stream()
+                    .filter(id -> !fetched.containsKey(id))
+                    .collect(Collectors.toList());
+            if (!notFoundIds.isEmpty()) {
+                log.error("❌ iTunes 곡 조회 실패 - trackIds: {}", notFoundIds);
+                negativeCache.putMissingTracks(notFoundIds);
+                throw new RuntimeException("Failed to get tracks from iTunes API: " + notFoundIds);
+            }
+
+            for (Track track : saveTracks(fetched.values())) {
+                tracks.put(track.getTrackId(), track);
+            }
+        }
+
+        return distinctIds.stream()
+                .map(tracks::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 새 곡 일괄 저장 (별도 트랜잭션)
+     * 동시에 같은 곡이 저장되어 유니크 제약에 걸리면 한 곡씩 조회/저장으로 전환
+     */
+    private List<Track> saveTracks(Collection<ItunesTrackDto> itunesTracks) {
+        TransactionTemplate transactionTemplate = requiresNewTransaction();
+
+        try {
+            return transactionTemplate.execute(status -> trackRepository.saveAll(itunesTracks.stream()
+                    .map(ItunesTrackDto::toEntity)
+                    .collect(Collectors.toList())));
+        } catch (DataIntegrityViolationException e) {
+            log.info("이미 저장된 곡이 있어 개별 저장으로 전환 - 곡 수: {}", itunesTracks.size());
+            return itunesTracks.stream()
+                    .map(itunesTrack -> transactionTemplate.execute(status -> trackRepository
+                            .findByTrackId(itunesTrack.getTrackId())
+                            .orElseGet(() -> trackRepository.save(itunesTrack.toEntity()))))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private TransactionTemplate requiresNewTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private Track awaitInFlight(CompletableFuture<Track> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     private ItunesTrackDto fetchTrackFromApi(Long trackId) {
+        if (negativeCache.isMissingTrack(trackId)) {
+            log.warn("iTunes에 없는 곡 (캐시) - trackId: {}", trackId);
+            throw new RuntimeException("Failed to get track from iTunes API");
+        }
         log.info("🎵 iTunes API로 곡 조회 - trackId: {}", trackId);
-        String uriString = UriComponentsBuilder.fromHttpUrl(ITUNES_LOOKUP_URL)
-                .queryParam("id", trackId)
-                .toUriString();
-
-        ItunesResponse response = webClient.get()
-                .uri(uriString)
-                .retrieve()
-                .bodyToMono(ItunesResponse.class)
-                .block();
+
+        // 곡 저장(JPA) 경로라서 응답을 기다림
+        ItunesResponse response = itunesClient.lookup(trackId).block();
 
         if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
             log.error("❌ iTunes 곡 조회 실패 - trackId: {}", trackId);
+            if (response != null) {
+                // 응답은 정상이지만 결과가 없음 (장애로 인한 실패는 캐시하지 않음)
+                negativeCache.putMissingTracks(List.of(trackId));
+            }
             throw new RuntimeException("Failed to get track from iTunes API");
         }
         return response.getResults().get(0);
     }
 
-    private Track mapToEntity(ItunesTrackDto itunesTrack) {
-        return Track.builder()
-                .trackId(itunesTrack.getTrackId())
-                .title(itunesTrack.getTrackName())
-                .artist(itunesTrack.getArtistName())
-                .album(itunesTrack.getCollectionName())
-                .durationMs(itunesTrack.getTrackTimeMillis() != null ? itunesTrack.getTrackTimeMillis().intValue() : null)
-                .albumCoverUrl(itunesTrack.getArtworkUrl100())
-                .releaseDate(itunesTrack.getReleaseDate())
-                .previewUrl(itunesTrack.getPreviewUrl())
-                .primaryGenreName(itunesTrack.getPrimaryGenreName())
-                .build();
-    }
-
-    private TrackSearchResponseDto mapToTrackSearchResponseDto(ItunesTrackDto itunesTrack) {
-        return new TrackSearchResponseDto(
-                String.valueOf(itunesTrack.getTrackId()),
-                itunesTrack.getTrackName(),
-                itunesTrack.getArtistName(),
-                itunesTrack.getCollectionName(),
-                itunesTrack.getTrackTimeMillis() != null ? itunesTrack.getTrackTimeMillis().intValue() : 0,
-                itunesTrack.getArtworkUrl100(),
-                itunesTrack.getReleaseDate(),
-                itunesTrack.getPreviewUrl(),
-                itunesTrack.getPrimaryGenreName()
-        );
+    /**
+     * batchSize 단위로 나눠 lookup 요청 (최대 batchConcurrency개 동시 요청)
+     */
+    private Map<Long, ItunesTrackDto> fetchTracksFromApi(List<Long> trackIds) {
+        int batchSize = properties.getLookup().getBatchSize();
+        log.info("🎵 iTunes API로 곡 일괄 조회 - 곡 수: {}, 요청 수: {}",
+                trackIds.size(), (trackIds.size() + batchSize - 1) / batchSize);
+
+        Set<Long> requestedIds = new HashSet<>(trackIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < trackIds.size(); from += batchSize) {
+            chunks.add(trackIds.subList(from, Math.min(from + batchSize, trackIds.size())));
+        }
+
+        Map<Long, ItunesTrackDto> fetched = Flux.fromIterable(chunks)
+                .flatMap(chunk -> itunesClient.lookup(chunk, ItunesCallPriority.PLAYLIST_ADD),
+                        properties.getLookup().getBatchConcurrency())
+                .filter(response -> response.getResults() != null)
+                .flatMapIterable(ItunesResponse::getResults)
+                .filter(itunesTrack -> requestedIds.contains(itunesTrack.getTrackId()))
+                .collectMap(ItunesTrackDto::getTrackId)
+                .block();
+
+        return fetched != null ? fetched : Collections.emptyMap();
     }
 }
@@ -0,0 +1,212 @@
+package com.example.musicBackend.external.itunes.writebehind;
+
+import com.example.musicBackend.external.itunes.config.ItunesProperties;
+import com.example.musicBackend.feature.track.domain.Track;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.example.musicBackend.feature.track.repository.TrackRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 곡을 tracks 테이블에 비동기로 저장 (write-behind)
+ * 사용자가 검색 결과에서 곡을 추가할 때 iTunes lookup 없이 DB에서 바로 찾을 수 있도록 함
+ * 대기열은 크기가 제한되어 있고, 가득 차면 요청 스레드를 막지 않고 새 곡을 버림
+ * 지표: itunes.search.write-behind.queue (대기 곡 수), .dropped (버린 곡 수), .written (저장한 곡 수)
+ */
+@Slf4j
+@Component
+public class SearchResultWriteBehind {
+
+    private final TrackRepository trackRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ItunesProperties.WriteBehind config;
+
+    private final BlockingQueue<TrackSearchResponseDto> queue;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public SearchResultWriteBehind(TrackRepository trackRepository, TransactionTemplate transactionTemplate,
+                                   ItunesProperties properties, MeterRegistry meterRegistry) {
+        this.trackRepository = trackRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.config = properties.getSearch().getWriteBehind();
+        this.queue = new ArrayBlockingQueue<>(config.getCapacity());
+
+        Gauge.builder("itunes.search.write-behind.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 검색 결과 곡 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("itunes.search.write-behind.dropped")
+                .description("대기열이 가득 차서 버린 곡 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("itunes.search.write-behind.written")
+                .description("tracks 테이블에 저장(추가/갱신)한 곡 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runLoop, "itunes-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 시 대기열에 남은 곡까지 저장
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 검색 결과를 저장 대기열에 넣음 (블로킹 없음)
+     */
+    public void enqueue(Collection<TrackSearchResponseDto> tracks) {
+        if (!running) {
+            return;
+        }
+        int dropped = 0;
+        for (TrackSearchResponseDto track : tracks) {
+            if (!queue.offer(track)) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            log.debug("검색 결과 저장 대기열 가득 참 - 버린 곡 수: {}", dropped);
+        }
+    }
+
+    private void runLoop() {
+        List<TrackSearchResponseDto> batch = new ArrayList<>(config.getBatchSize());
+        while (running) {
+            try {
+                TrackSearchResponseDto first = queue.poll(config.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, config.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() 호출 - 남은 곡 저장 후 종료
+                break;
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 검색 결과 저장 실패 - 곡 수: {}, 원인: {}", batch.size(), e.toString());
+            } finally {
+                batch.clear();
+            }
+        }
+
+        Thread.interrupted();
+        while (queue.drainTo(batch, config.getBatchSize()) > 0) {
+            try {
+                write(batch);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 종료 중 검색 결과 저장 실패 - 곡 수: {}, 원인: {}", batch.size(), e.toString());
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 없는 곡은 추가, 있는 곡은 바뀐 필드만 갱신
+     * 같은 곡이 동시에 추가되어 유니크 제약에 걸리면 한 번 더 시도 (이미 저장된 곡으로 처리됨)
+     */
+    private void write(List<TrackSearchResponseDto> batch) {
+        int written;
+        try {
+            written = upsert(batch);
+        } catch (DataIntegrityViolationException e) {
+            // 실패한 트랜잭션에서 id가 채워진 엔티티는 다시 쓰지 않도록 upsert에서 새로 만듦
+            written = upsert(batch);
+        }
+        writtenCounter.increment(written);
+        log.debug("검색 결과 저장 - 요청 곡 수: {}, 저장 곡 수: {}", batch.size(), written);
+    }
+
+    private int upsert(List<TrackSearchResponseDto> batch) {
+        Map<Long, Track> latestTracks = new LinkedHashMap<>();
+        for (TrackSearchResponseDto dto : batch) {
+            Track track = toEntity(dto);
+            if (track != null) {
+                latestTracks.put(track.getTrackId(), track);
+            }
+        }
+        if (latestTracks.isEmpty()) {
+            return 0;
+        }
+
+        Integer written = transactionTemplate.execute(status -> {
+            Map<Long, Track> existing = trackRepository.findByTrackIdIn(latestTracks.keySet()).stream()
+                    .collect(Collectors.toMap(Track::getTrackId, track -> track));
+
+            List<Track> newTracks = new ArrayList<>();
+            int changed = 0;
+            for (Track latest : latestTracks.values()) {
+                Track track = existing.get(latest.getTrackId());
+                if (track == null) {
+                    newTracks.add(latest);
+                } else if (track.refreshFrom(latest)) {
+                    changed++;
+                }
+            }
+            trackRepository.saveAll(newTracks);
+            return newTracks.size() + changed;
+        });
+        return written != null ? written : 0;
+    }
+
+    private Track toEntity(TrackSearchResponseDto dto) {
+        Long trackId;
+        try {
+            trackId = Long.valueOf(dto.trackId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (dto.title() == null) {
+            return null;
+        }
+        return Track.builder()
+                .trackId(trackId)
+                .title(dto.title())
+                .artist(dto.artist())
+                .album(dto.album())
+                // 검색 응답은 재생 시간이 없으면 0으로 채워져 있음 (lookup 결과와 같게 null로 저장)
+                .durationMs(dto.durationMs() != null && dto.durationMs() > 0 ? dto.durationMs() : null)
+                .albumCoverUrl(dto.albumCoverUrl())
+                .releaseDate(dto.releaseDate())
+                .previewUrl(dto.previewUrl())
+                .primaryGenreName(dto.primaryGenreName())
+                .build();
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.musicBackend.feature.playlist.controller;
 
 import com.example.musicBackend.feature.playlist.dto.AddTrackRequestDto;
+import com.example.musicBackend.feature.playlist.dto.AddTracksRequestDto;
+import com.example.musicBackend.feature.playlist.dto.AppendTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistHeaderResponseDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistRequestDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksRequestDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksResponseDto;
 import com.example.musicBackend.feature.playlist.service.PlaylistService;
+import com.example.musicBackend.global.dto.CursorPageResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -41,23 +49,78 @@ public class PlaylistController {
     }
 
     /**
-     * 특정 사용자의 플레이리스트 목록 조회
+     * 특정 사용자의 플레이리스트 요약 목록 조회
      */
     @GetMapping("/user/{userId}")
+    public ResponseEntity<List<PlaylistSummaryResponseDto>> getUserPlaylistSummaries(@PathVariable Long userId) {
+        List<PlaylistSummaryResponseDto> summaries = playlistService.getUserPlaylistSummaries(userId);
+        return ResponseEntity.ok(summaries);
+    }
+
+    /**
+     * 특정 사용자의 플레이리스트 목록 조회 (full=true - 곡 목록까지 포함)
+     */
+    @GetMapping(value = "/user/{userId}", params = "full=true")
     public ResponseEntity<List<PlaylistResponseDto>> getUserPlaylists(@PathVariable Long userId) {
         List<PlaylistResponseDto> playlists = playlistService.getUserPlaylists(userId);
         return ResponseEntity.ok(playlists);
     }
 
     /**
-     * 공개 플레이리스트 목록 조회
+     * 특정 사용자에게 공유된 플레이리스트 요약 페이지 조회 (커서 기반)
+     * 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor를 그대로 전달
+     */
+    @GetMapping("/shared-with/{userId}")
+    public ResponseEntity<CursorPageResponseDto<PlaylistSummaryResponseDto>> getSharedWithPlaylists(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDto<PlaylistSummaryResponseDto> playlists =
+                playlistService.getSharedWithPlaylists(userId, cursor, limit);
+        return ResponseEntity.ok(playlists);
+    }
+
+    /**
+     * 공개 플레이리스트 요약 목록 조회
      */
     @GetMapping("/public")
+    public ResponseEntity<List<PlaylistSummaryResponseDto>> getPublicPlaylistSummaries() {
+        List<PlaylistSummaryResponseDto> summaries = playlistService.getPublicPlaylistSummaries();
+        return ResponseEntity.ok(summaries);
+    }
+
+    /**
+     * 공개 플레이리스트 목록 조회 (full=true - 곡 목록까지 포함)
+     */
+    @GetMapping(value = "/public", params = "full=true")
     public ResponseEntity<List<PlaylistResponseDto>> getPublicPlaylists() {
         List<PlaylistResponseDto> playlists = playlistService.getPublicPlaylists();
         return ResponseEntity.ok(playlists);
     }
 
+    /**
+     * 공개 플레이리스트 최신순 요약 페이지 조회 (커서 기반)
+     * 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor를 그대로 전달
+     */
+    @GetMapping("/public/feed")
+    public ResponseEntity<CursorPageResponseDto<PlaylistSummaryResponseDto>> getPublicPlaylistSummaryFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDto<PlaylistSummaryResponseDto> feed = playlistService.getPublicPlaylistSummaryFeed(cursor, limit);
+        return ResponseEntity.ok(feed);
+    }
+
+    /**
+     * 공개 플레이리스트 최신순 페이지 조회 (full=true - 곡 목록까지 포함)
+     */
+    @GetMapping(value = "/public/feed", params = "full=true")
+    public ResponseEntity<CursorPageResponseDto<PlaylistResponseDto>> getPublicPlaylistFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDto<PlaylistResponseDto> feed = playlistService.getPublicPlaylistFeed(cursor, limit);
+        return ResponseEntity.ok(feed);
+    }
+
     /**
      * 특정 플레이리스트 조회
      */
@@ -69,6 +132,32 @@ public class PlaylistController {
         return ResponseEntity.ok(playlist);
     }
 
+    /**
+     * 플레이리스트 정보 조회 (곡 목록 제외)
+     */
+    @GetMapping("/{playlistId}/header")
+    public ResponseEntity<PlaylistHeaderResponseDto> getPlaylistHeader(
+            @PathVariable Long playlistId,
+            @RequestParam(required = false) Long userId) {
+        PlaylistHeaderResponseDto header = playlistService.getPlaylistHeader(playlistId, userId);
+        return ResponseEntity.ok(header);
+    }
+
+    /**
+     * 플레이리스트 곡 목록 페이지 조회 (커서 기반)
+     * 첫 페이지는 after 없이, 다음 페이지는 응답의 nextCursor를 after로 전달
+     */
+    @GetMapping("/{playlistId}/tracks")
+    public ResponseEntity<CursorPageResponseDto<PlaylistTrackResponseDto>> getPlaylistTracks(
+            @PathVariable Long playlistId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPageResponseDto<PlaylistTrackResponseDto> tracks =
+                playlistService.getPlaylistTracks(playlistId, userId, after, limit);
+        return ResponseEntity.ok(tracks);
+    }
+
     /**
      * 플레이리스트 정보 수정
      */
@@ -104,6 +193,30 @@ public class PlaylistController {
         return ResponseEntity.ok(playlist);
     }
 
+    /**
+     * 플레이리스트 맨 뒤에 곡 추가 - 전체 곡 목록 대신 추가된 곡과 곡 수만 반환
+     */
+    @PostMapping("/{playlistId}/tracks/append")
+    public ResponseEntity<AppendTrackResponseDto> appendTrack(
+            @PathVariable Long playlistId,
+            @RequestParam Long userId,
+            @RequestBody AddTrackRequestDto request) {
+        AppendTrackResponseDto result = playlistService.appendTrack(playlistId, userId, request.trackId());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 플레이리스트에 여러 곡 한 번에 추가
+     */
+    @PostMapping("/{playlistId}/tracks/bulk")
+    public ResponseEntity<PlaylistResponseDto> addTracksToPlaylist(
+            @PathVariable Long playlistId,
+            @RequestParam Long userId,
+            @RequestBody AddTracksRequestDto request) {
+        PlaylistResponseDto playlist = playlistService.addTracksToPlaylist(playlistId, userId, request.trackIds());
+        return ResponseEntity.ok(playlist);
+    }
+
     /**
      * 플레이리스트에서 곡 제거
      */
@@ -128,4 +241,17 @@ public class PlaylistController {
         PlaylistResponseDto playlist = playlistService.updateTrackPosition(playlistId, userId, trackId, newPosition);
         return ResponseEntity.ok(playlist);
     }
+
+    /**
+     * 플레이리스트 곡 순서 일괄 변경
+     * body: {"trackIds": [전체 순서]} 또는 {"moves": [{"trackId": 1, "newPosition": 0}, ...]}
+     */
+    @PutMapping("/{playlistId}/tracks/order")
+    public ResponseEntity<ReorderTracksResponseDto> reorderTracks(
+            @PathVariable Long playlistId,
+            @RequestParam Long userId,
+            @RequestBody ReorderTracksRequestDto request) {
+        ReorderTracksResponseDto result = playlistService.reorderTracks(playlistId, userId, request);
+        return ResponseEntity.ok(result);
+    }
 }
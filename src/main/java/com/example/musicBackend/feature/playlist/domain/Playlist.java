@@ -1,6 +1,7 @@
 package com.example.musicBackend.feature.playlist.domain;
 
 import com.example.musicBackend.feature.user.domain.User;
+import com.example.musicBackend.global.jpa.FetchBatch;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,8 +11,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.PrePersist;
@@ -22,19 +28,39 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 조회 계획
+ * - Playlist.withUser: 목록 조회 (곡 목록은 PlaylistRepository.fetchTracks로 곡 정보까지 조인 한 번에,
+ *   공유 목록은 @BatchSize로 여러 플레이리스트를 IN 쿼리 한 번에)
+ * - Playlist.detail: 단건 조회 (소유자 + 곡 + 곡 정보를 조인 한 번에, 공유 목록은 @BatchSize)
+ */
 @Entity
-@Table(name = "playlists")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = Playlist.WITH_USER, attributeNodes = @NamedAttributeNode("user")),
+        @NamedEntityGraph(name = Playlist.DETAIL,
+                attributeNodes = {
+                        @NamedAttributeNode("user"),
+                        @NamedAttributeNode(value = "playlistTracks", subgraph = "playlistTracks")
+                },
+                subgraphs = @NamedSubgraph(name = "playlistTracks", attributeNodes = @NamedAttributeNode("track")))
+})
+@Table(name = "playlists",
+        indexes = @Index(name = "idx_playlists_visibility_updated_at", columnList = "visibility, updated_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Playlist {
+    public static final String WITH_USER = "Playlist.withUser";
+    public static final String DETAIL = "Playlist.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -57,14 +83,29 @@ public class Playlist {
 
     // @OneToMany 및 @ManyToMany의 기본 FetchType값은 LAZY
     @OneToMany(mappedBy = "playlist", cascade = CascadeType.ALL, orphanRemoval = true)
-    @OrderBy("position ASC")
+    @OrderBy("sortKey ASC")
+    @BatchSize(size = FetchBatch.SIZE)
     @Builder.Default
     private List<PlaylistTrack> playlistTracks = new ArrayList<>();
 
     @OneToMany(mappedBy = "playlist", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = FetchBatch.SIZE)
     @Builder.Default
     private List<PlaylistVisibility> playlistVisibilities = new ArrayList<>();
 
+    // 곡 추가 시 playlistTracks를 불러오지 않도록 유지하는 집계 값
+    @Column(nullable = false)
+    @Builder.Default
+    private int trackCount = 0;
+
+    // 가장 큰 곡 정렬 키 이상인 값 (다음 곡은 이 뒤에 붙임, 재정렬 시 실제 마지막 키로 맞춤)
+    private Long lastSortKey;
+
+    // 곡 정렬 키를 전체 다시 매긴 횟수 (곡 페이지 커서가 이전 키 기준인지 확인용)
+    @Column(nullable = false)
+    @Builder.Default
+    private long sortKeyVersion = 0;
+
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
@@ -75,6 +116,36 @@ public class Playlist {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 맨 뒤에 count곡을 추가함 (lastSortKey: 마지막으로 추가한 곡의 정렬 키)
+     */
+    public void tracksAppended(int count, long lastSortKey) {
+        this.trackCount += count;
+        coverSortKey(lastSortKey);
+    }
+
+    public void trackRemoved() {
+        this.trackCount = Math.max(0, trackCount - 1);
+    }
+
+    /**
+     * 곡 이동 등으로 정렬 키가 바뀐 경우 lastSortKey가 가장 큰 키 이상이 되도록 맞춤
+     */
+    public void coverSortKey(long sortKey) {
+        if (lastSortKey == null || sortKey > lastSortKey) {
+            lastSortKey = sortKey;
+        }
+    }
+
+    /**
+     * 곡 정렬 키를 전체 다시 매긴 뒤 마지막 키로 맞춤 (곡이 없으면 null)
+     * 버전이 바뀌므로 이전 키로 만든 곡 페이지 커서는 더 이상 쓸 수 없음
+     */
+    public void sortKeysRenumbered(Long lastSortKey) {
+        this.lastSortKey = lastSortKey;
+        this.sortKeyVersion++;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
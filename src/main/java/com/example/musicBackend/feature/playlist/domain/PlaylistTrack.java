@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 @Table(name = "playlist_tracks",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_playlist_track_track", columnNames = {"playlist_id", "track_id"}),
-                @UniqueConstraint(name = "uk_playlist_track_position", columnNames = {"playlist_id", "position"})
+                @UniqueConstraint(name = "uk_playlist_track_sort_key", columnNames = {"playlist_id", "sort_key"})
         })
 @Getter
 @Setter
@@ -34,8 +34,12 @@ public class PlaylistTrack {
     @JoinColumn(name = "track_id", nullable = false)
     private Track track;
 
-    @Column(nullable = false)
-    private Integer position;
+    /**
+     * 플레이리스트 내 정렬 키 (SortKeys.GAP 간격, 곡 사이에 끼워 넣을 때는 앞뒤 키의 중간값)
+     * API의 position(0부터 연속)은 정렬 순서로 조회 시점에 계산
+     */
+    @Column(name = "sort_key", nullable = false)
+    private Long sortKey;
 
     @Column(updatable = false)
     private LocalDateTime addedAt;
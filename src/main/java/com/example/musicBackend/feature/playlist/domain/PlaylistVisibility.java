@@ -6,7 +6,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "playlist_visibilities",
-        uniqueConstraints = @UniqueConstraint(name = "uk_playlist_visibility_user", columnNames = {"playlist_id", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(name = "uk_playlist_visibility_user", columnNames = {"playlist_id", "user_id"}),
+        indexes = @Index(name = "idx_playlist_visibilities_user_playlist", columnList = "user_id, playlist_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,148 @@
+package com.example.musicBackend.feature.playlist.domain;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * PlaylistTrack 정렬 키 계산
+ * 키 사이에 간격을 두어 곡 이동/끼워 넣기 시 해당 곡 한 행만 수정
+ * 간격이 다 떨어지면 플레이리스트 전체를 GAP 간격으로 다시 매김 (PlaylistTrackRebalancer)
+ */
+public final class SortKeys {
+
+    public static final long GAP = 65_536;
+
+    // 이웃 키와의 간격이 이보다 작아지면 백그라운드 재정렬 대상
+    public static final long MIN_GAP = 64;
+
+    private SortKeys() {
+    }
+
+    /**
+     * index번째(0부터) 곡의 초기 키
+     */
+    public static long initial(int index) {
+        return (index + 1L) * GAP;
+    }
+
+    /**
+     * 마지막 키 다음에 붙일 키 (빈 플레이리스트면 첫 키)
+     */
+    public static long after(Long last) {
+        return last == null ? GAP : last + GAP;
+    }
+
+    /**
+     * prev와 next 사이의 키 (null이면 맨 앞/맨 뒤), 사이에 빈 키가 없으면 null
+     */
+    public static Long between(Long prev, Long next) {
+        if (next == null) {
+            return after(prev);
+        }
+        long low = prev == null ? 0 : prev;
+        if (next - low < 2) {
+            return null;
+        }
+        return low + (next - low) / 2;
+    }
+
+    /**
+     * 새 키가 이웃과 너무 가까운지 (다음 이동을 위해 재정렬이 필요한지)
+     */
+    public static boolean isCrowded(Long prev, long key, Long next) {
+        return (prev != null && key - prev < MIN_GAP) || (next != null && next - key < MIN_GAP);
+    }
+
+    /**
+     * 새 순서로 나열한 기존 키 → 새 순서에 맞는 키
+     * 이미 순서가 맞는 가장 긴 부분(최장 증가 부분 수열)은 그대로 두고 나머지만 그 사이 값으로 바꿈
+     * 새 키는 어떤 곡의 기존 키와도 겹치지 않으므로 바뀐 행을 순서와 관계없이 한 번씩만 수정하면 됨
+     * - 그대로 두는 키 사이의 값이므로 그 키들과는 겹치지 않고, 옮기는 곡들의 기존 키는 건너뜀
+     * 사이에 빈 키가 모자라면 기존 최대 키 뒤부터 GAP 간격으로 다시 매김
+     */
+    public static long[] reorder(long[] currentKeys) {
+        int n = currentKeys.length;
+        boolean[] keep = longestIncreasing(currentKeys);
+        Set<Long> movedKeys = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            if (!keep[i]) {
+                movedKeys.add(currentKeys[i]);
+            }
+        }
+        long[] keys = new long[n];
+
+        int prevKept = -1;
+        for (int i = 0; i <= n; i++) {
+            if (i < n && !keep[i]) {
+                continue;
+            }
+            int count = i - prevKept - 1;
+            long low = prevKept >= 0 ? currentKeys[prevKept] : 0;
+            if (count > 0) {
+                long high = i < n ? currentKeys[i] : Long.MAX_VALUE;
+                long step = i < n ? (high - low) / (count + 1) : GAP;
+                long key = low;
+                for (int j = 1; j <= count; j++) {
+                    key = Math.max(key + 1, low + step * j);
+                    while (movedKeys.contains(key)) {
+                        key++;
+                    }
+                    if (key >= high) {
+                        return renumberedAfter(currentKeys);
+                    }
+                    keys[prevKept + j] = key;
+                }
+            }
+            if (i < n) {
+                keys[i] = currentKeys[i];
+            }
+            prevKept = i;
+        }
+        return keys;
+    }
+
+    private static long[] renumberedAfter(long[] currentKeys) {
+        long max = 0;
+        for (long key : currentKeys) {
+            max = Math.max(max, key);
+        }
+        long[] keys = new long[currentKeys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = max + initial(i);
+        }
+        return keys;
+    }
+
+    /**
+     * 최장 증가 부분 수열에 속하는 위치 (O(n log n))
+     */
+    private static boolean[] longestIncreasing(long[] values) {
+        int n = values.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] keep = new boolean[n];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            keep[i] = true;
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.util.List;
+
+public record AddTracksRequestDto(List<Long> trackIds) {
+}
@@ -0,0 +1,14 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡 추가(append) 결과 - 추가된 곡과 플레이리스트 요약만 반환
+ */
+public record AppendTrackResponseDto(
+        Long playlistId,
+        PlaylistTrackResponseDto track,
+        int trackCount,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,39 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 플레이리스트 목록 커서 (마지막으로 받은 플레이리스트의 updatedAt, id)
+ * 클라이언트에는 Base64 문자열로만 노출 (형식은 바뀔 수 있으므로 해석하지 않도록)
+ */
+public record PlaylistFeedCursor(
+        LocalDateTime updatedAt,
+        Long id
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor가 없으면 null (첫 페이지)
+     */
+    public static PlaylistFeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new PlaylistFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor입니다.");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.domain.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡 목록을 뺀 플레이리스트 정보 (곡은 /tracks로 페이지 단위 조회)
+ */
+public record PlaylistHeaderResponseDto(
+        Long id,
+        String title,
+        String description,
+        String coverImageUrl,
+        Visibility visibility,
+        Long userId,
+        String userNickname,
+        int trackCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+    public static PlaylistHeaderResponseDto from(Playlist playlist) {
+        return new PlaylistHeaderResponseDto(
+                playlist.getId(),
+                playlist.getTitle(),
+                playlist.getDescription(),
+                playlist.getCoverImageUrl(),
+                playlist.getVisibility(),
+                playlist.getUser().getId(),
+                playlist.getUser().getNickname(),
+                playlist.getTrackCount(),
+                playlist.getCreatedAt(),
+                playlist.getUpdatedAt()
+        );
+    }
+}
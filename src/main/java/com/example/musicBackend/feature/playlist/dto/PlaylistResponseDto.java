@@ -1,11 +1,14 @@
 package com.example.musicBackend.feature.playlist.dto;
 
 import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.domain.PlaylistTrack;
 import com.example.musicBackend.feature.playlist.domain.Visibility;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public record PlaylistResponseDto(
         Long id,
@@ -29,10 +32,7 @@ public record PlaylistResponseDto(
                 playlist.getVisibility(),
                 playlist.getUser().getId(),
                 playlist.getUser().getNickname(),
-                playlist.getPlaylistTracks().stream()
-                        .sorted((a, b) -> a.getPosition().compareTo(b.getPosition()))
-                        .map(PlaylistTrackResponseDto::from)
-                        .collect(Collectors.toList()),
+                toTrackResponses(playlist.getPlaylistTracks()),
                 playlist.getPlaylistVisibilities().stream()
                         .map(pv -> pv.getUser().getId())
                         .collect(Collectors.toList()),
@@ -40,4 +40,16 @@ public record PlaylistResponseDto(
                 playlist.getUpdatedAt()
         );
     }
+
+    /**
+     * 정렬 키 순서대로 0부터 position을 매김
+     */
+    private static List<PlaylistTrackResponseDto> toTrackResponses(List<PlaylistTrack> playlistTracks) {
+        List<PlaylistTrack> sorted = playlistTracks.stream()
+                .sorted(Comparator.comparing(PlaylistTrack::getSortKey))
+                .collect(Collectors.toList());
+        return IntStream.range(0, sorted.size())
+                .mapToObj(i -> PlaylistTrackResponseDto.from(sorted.get(i), i))
+                .collect(Collectors.toList());
+    }
 }
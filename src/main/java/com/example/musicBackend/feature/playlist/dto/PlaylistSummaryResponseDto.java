@@ -0,0 +1,22 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import com.example.musicBackend.feature.playlist.domain.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 플레이리스트 요약 (곡 목록 없이 곡 수와 총 재생 시간만)
+ * trackCount는 Playlist에 유지하는 값, totalDurationMs는 페이지에 포함된 플레이리스트만 SUM으로 계산
+ */
+public record PlaylistSummaryResponseDto(
+        Long id,
+        String title,
+        String coverImageUrl,
+        Visibility visibility,
+        Long userId,
+        String userNickname,
+        Long trackCount,
+        Long totalDurationMs,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,40 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 플레이리스트 곡 페이지 커서 (커서를 만들 때의 정렬 키 버전, 마지막으로 받은 곡의 정렬 키와 id)
+ * 정렬 키가 전체 다시 매겨지면 버전이 바뀌므로 이전 커서는 거부됨 (Playlist.sortKeyVersion)
+ */
+public record PlaylistTrackCursor(
+        long sortKeyVersion,
+        long sortKey,
+        long playlistTrackId
+) {
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = sortKeyVersion + SEPARATOR + sortKey + SEPARATOR + playlistTrackId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * cursor가 없으면 null (첫 페이지)
+     */
+    public static PlaylistTrackCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new PlaylistTrackCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 cursor입니다.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+/**
+ * 플레이리스트 곡 순서 (엔티티를 올리지 않고 순서 계산용으로만 조회)
+ */
+public record PlaylistTrackOrderRow(
+        Long id,
+        Long trackId,
+        Long sortKey
+) {
+}
@@ -3,17 +3,19 @@ package com.example.musicBackend.feature.playlist.dto;
 import com.example.musicBackend.feature.playlist.domain.PlaylistTrack;
 import com.example.musicBackend.feature.track.dto.TrackResponseDto;
 
-
+/**
+ * position: 플레이리스트 내 순서 (0부터 연속, 정렬 키 순서로 계산)
+ */
 public record PlaylistTrackResponseDto(
         Long id,
         TrackResponseDto track,
         Integer position
 ) {
-    public static PlaylistTrackResponseDto from(PlaylistTrack playlistTrack) {
+    public static PlaylistTrackResponseDto from(PlaylistTrack playlistTrack, int position) {
         return new PlaylistTrackResponseDto(
                 playlistTrack.getId(),
                 TrackResponseDto.from(playlistTrack.getTrack()),
-                playlistTrack.getPosition()
+                position
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.util.List;
+
+/**
+ * 곡 순서 일괄 변경 요청 - trackIds(전체 순서) 또는 moves(이동 목록) 중 하나만 지정
+ * moves는 앞에서부터 차례대로 적용
+ */
+public record ReorderTracksRequestDto(List<Long> trackIds, List<Move> moves) {
+
+    public record Move(Long trackId, Integer newPosition) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 곡 순서 일괄 변경 결과 (updatedAt으로 다른 곳에서의 수정 여부 확인)
+ */
+public record ReorderTracksResponseDto(
+        Long playlistId,
+        int trackCount,
+        int changedCount,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.musicBackend.feature.playlist.dto;
+
+/**
+ * 곡별로 담긴 플레이리스트 수 (Track.id 기준)
+ */
+public record TrackPlaylistCount(
+        Long trackId,
+        Long playlistCount
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.musicBackend.feature.playlist.event;
+
+import java.util.Set;
+
+/**
+ * 플레이리스트의 공유 대상이 바뀜 (userIds: 추가되거나 제거된 사용자)
+ */
+public record PlaylistSharesChangedEvent(Long playlistId, Set<Long> userIds) {
+}
@@ -0,0 +1,9 @@
+package com.example.musicBackend.feature.playlist.event;
+
+import java.util.Collection;
+
+/**
+ * 플레이리스트에 곡이 추가되거나 제거됨 (trackIds: tracks.id)
+ */
+public record PlaylistTracksChangedEvent(Long playlistId, Collection<Long> trackIds) {
+}
@@ -2,27 +2,144 @@ package com.example.musicBackend.feature.playlist.repository;
 
 import com.example.musicBackend.feature.playlist.domain.Playlist;
 import com.example.musicBackend.feature.playlist.domain.Visibility;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PlaylistRepository extends JpaRepository<Playlist, Long> {
+
+    /**
+     * 요약 조회 공통 SELECT (GROUP BY 없이 정렬/LIMIT으로 고른 행만 계산)
+     * 곡 수는 Playlist에 유지하는 trackCount, 총 재생 시간은 해당 플레이리스트만 합하는 상관 서브쿼리
+     */
+    String SUMMARY_SELECT = "SELECT new com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto(" +
+            "p.id, p.title, p.coverImageUrl, p.visibility, u.id, u.nickname, CAST(p.trackCount AS Long), " +
+            "(SELECT COALESCE(SUM(t.durationMs), 0L) FROM PlaylistTrack pt JOIN pt.track t WHERE pt.playlist = p), " +
+            "p.updatedAt) " +
+            "FROM Playlist p JOIN p.user u ";
+
+    String LATEST_FIRST = "ORDER BY p.updatedAt DESC, p.id DESC";
+
+    @EntityGraph(Playlist.WITH_USER)
     List<Playlist> findByUserId(Long userId);
 
+    @EntityGraph(Playlist.WITH_USER)
     List<Playlist> findByVisibility(Visibility visibility);
 
     /**
-     * 플레이리스트를 tracks와 함께 조회 (Fetch Join)
-     * Lazy Loading 문제 해결을 위해 한 번에 모든 데이터를 가져옴
+     * 공개 범위별 최신순 첫 페이지 (idx_playlists_visibility_updated_at)
      */
+    @EntityGraph(Playlist.WITH_USER)
+    List<Playlist> findByVisibilityOrderByUpdatedAtDescIdDesc(Visibility visibility, Limit limit);
+
+    /**
+     * 공개 범위별 최신순 다음 페이지 - (updatedAt, id)가 커서보다 작은 플레이리스트
+     */
+    @EntityGraph(Playlist.WITH_USER)
     @Query("SELECT p FROM Playlist p " +
+            "WHERE p.visibility = :visibility " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+            "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Playlist> findByVisibilityBefore(
+            @Param("visibility") Visibility visibility,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자의 플레이리스트 요약 목록 (최신순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId " + LATEST_FIRST)
+    List<PlaylistSummaryResponseDto> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 공개 범위별 플레이리스트 요약 목록 (최신순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.visibility = :visibility " + LATEST_FIRST)
+    List<PlaylistSummaryResponseDto> findSummariesByVisibility(@Param("visibility") Visibility visibility);
+
+    /**
+     * 공개 범위별 요약 첫 페이지
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.visibility = :visibility " + LATEST_FIRST)
+    List<PlaylistSummaryResponseDto> findSummariesByVisibility(@Param("visibility") Visibility visibility, Limit limit);
+
+    /**
+     * 공개 범위별 요약 다음 페이지 - (updatedAt, id)가 커서보다 작은 플레이리스트
+     */
+    @Query(SUMMARY_SELECT +
+            "WHERE p.visibility = :visibility " +
+            "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+            LATEST_FIRST)
+    List<PlaylistSummaryResponseDto> findSummariesByVisibilityBefore(
+            @Param("visibility") Visibility visibility,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    /**
+     * 사용자에게 공유된 플레이리스트 요약 - playlistId가 afterId보다 작은 것부터 id 역순
+     * (idx_playlist_visibilities_user_playlist 인덱스에서 사용자 구간만 읽음)
+     */
+    @Query(SUMMARY_SELECT +
+            "JOIN p.playlistVisibilities pv " +
+            "WHERE pv.user.id = :userId AND p.visibility = :visibility AND p.id < :afterId " +
+            "ORDER BY p.id DESC")
+    List<PlaylistSummaryResponseDto> findSharedSummaries(
+            @Param("userId") Long userId,
+            @Param("visibility") Visibility visibility,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    /**
+     * 소유 여부 확인 (곡 조회/저장 전에 권한 없는 요청을 먼저 거르기 위한 가벼운 검사)
+     */
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * 플레이리스트를 소유자, tracks와 함께 조회 (Playlist.detail)
+     * Lazy Loading 문제 해결을 위해 한 번에 모든 데이터를 가져옴
+     */
+    @EntityGraph(Playlist.DETAIL)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findByIdWithTracks(@Param("id") Long id);
+
+    /**
+     * 이미 불러온 플레이리스트들의 곡 목록을 곡 정보와 함께 조인 한 번으로 채움 (목록/피드 전체 조회용)
+     * 곡 수와 관계없이 쿼리 1번 - 곡 프록시를 @BatchSize 단위로 나눠 초기화하지 않음
+     */
+    @Query("SELECT DISTINCT p FROM Playlist p " +
             "LEFT JOIN FETCH p.playlistTracks pt " +
             "LEFT JOIN FETCH pt.track " +
-            "WHERE p.id = :id")
-    Optional<Playlist> findByIdWithTracks(@Param("id") Long id);
+            "WHERE p IN :playlists")
+    List<Playlist> fetchTracks(@Param("playlists") Collection<Playlist> playlists);
+
+    /**
+     * 플레이리스트를 소유자와 함께 조회 (Playlist.withUser)
+     */
+    @EntityGraph(Playlist.WITH_USER)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findByIdWithUser(@Param("id") Long id);
+
+    /**
+     * 곡 추가용 조회 (행 잠금) - 동시에 추가된 곡이 같은 정렬 키를 받지 않도록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Playlist p WHERE p.id = :id")
+    Optional<Playlist> findByIdForUpdate(@Param("id") Long id);
 }
@@ -1,37 +1,114 @@
 package com.example.musicBackend.feature.playlist.repository;
 
 import com.example.musicBackend.feature.playlist.domain.PlaylistTrack;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackOrderRow;
+import com.example.musicBackend.feature.playlist.dto.TrackPlaylistCount;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PlaylistTrackRepository extends JpaRepository<PlaylistTrack, Long> {
-    List<PlaylistTrack> findByPlaylistIdOrderByPositionAsc(Long playlistId);
+public interface PlaylistTrackRepository extends JpaRepository<PlaylistTrack, Long>, PlaylistTrackRepositoryCustom {
+    List<PlaylistTrack> findByPlaylistIdOrderBySortKeyAsc(Long playlistId);
 
     void deleteByPlaylistIdAndTrackId(Long playlistId, Long trackId);
 
     Optional<PlaylistTrack> findByPlaylistIdAndTrackId(Long playlistId, Long trackId);
 
+    long countByPlaylistId(Long playlistId);
+
+    /**
+     * 중복 추가 확인 (uk_playlist_track_track 인덱스)
+     */
+    boolean existsByPlaylistIdAndTrackId(Long playlistId, Long trackId);
+
+    /**
+     * 플레이리스트에 담긴 곡들의 Track ID 목록 (중복 체크용)
+     */
+    @Query("SELECT pt.track.id FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId")
+    List<Long> findTrackIdsByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 곡별 플레이리스트 수 (자동완성 순위용)
+     */
+    @Query("SELECT new com.example.musicBackend.feature.playlist.dto.TrackPlaylistCount(pt.track.id, COUNT(pt)) " +
+            "FROM PlaylistTrack pt GROUP BY pt.track.id")
+    List<TrackPlaylistCount> countPlaylistsByTrack();
+
     /**
-     * 특정 position보다 큰 곡들의 position을 -1 감소시킴(곡 삭제시 position 재정렬)
-     *
-     * @param playlistId      플레이리스트 ID
-     * @param deletedPosition 삭제된 곡의 position
+     * 지정한 곡들의 플레이리스트 수 (어느 플레이리스트에도 없는 곡은 결과에서 빠짐)
      */
-    @Modifying  // UPDATE/DELETE 쿼리를 실행할 때 필요한 어노테이션
-    @Query("UPDATE PlaylistTrack pt " +
-            "SET pt.position = pt.position - 1 " +
+    @Query("SELECT new com.example.musicBackend.feature.playlist.dto.TrackPlaylistCount(pt.track.id, COUNT(pt)) " +
+            "FROM PlaylistTrack pt WHERE pt.track.id IN :trackIds GROUP BY pt.track.id")
+    List<TrackPlaylistCount> countPlaylistsByTrackIds(@Param("trackIds") Collection<Long> trackIds);
+
+    /**
+     * 플레이리스트 곡들의 정렬 키 (순서대로) - 곡 이동 시 이웃 키 계산용
+     */
+    @Query("SELECT pt.sortKey FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId ORDER BY pt.sortKey")
+    List<Long> findSortKeysByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 플레이리스트 곡 순서 (id, Track ID, 정렬 키)
+     */
+    @Query("SELECT new com.example.musicBackend.feature.playlist.dto.PlaylistTrackOrderRow(pt.id, pt.track.id, pt.sortKey) " +
+            "FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId ORDER BY pt.sortKey")
+    List<PlaylistTrackOrderRow> findOrderByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * (정렬 키, id)가 커서보다 뒤인 곡들을 순서대로 (곡 정보 함께, uk_playlist_track_sort_key 인덱스)
+     */
+    @Query("SELECT pt FROM PlaylistTrack pt JOIN FETCH pt.track " +
             "WHERE pt.playlist.id = :playlistId " +
-            "AND pt.position > :deletedPosition")
-    void decrementPositionsAfter(
+            "AND (pt.sortKey > :sortKey OR (pt.sortKey = :sortKey AND pt.id > :id)) " +
+            "ORDER BY pt.sortKey, pt.id")
+    List<PlaylistTrack> findPageAfter(
             @Param("playlistId") Long playlistId,
-            @Param("deletedPosition") Integer deletedPosition
+            @Param("sortKey") Long sortKey,
+            @Param("id") Long id,
+            Limit limit
     );
 
+    /**
+     * (정렬 키, id)가 커서 이하인 곡 수 - 커서 다음 곡의 position
+     */
+    @Query("SELECT COUNT(pt) FROM PlaylistTrack pt " +
+            "WHERE pt.playlist.id = :playlistId " +
+            "AND (pt.sortKey < :sortKey OR (pt.sortKey = :sortKey AND pt.id <= :id))")
+    long countUpTo(
+            @Param("playlistId") Long playlistId,
+            @Param("sortKey") Long sortKey,
+            @Param("id") Long id
+    );
+
+    /**
+     * 마지막 곡의 정렬 키 (곡이 없으면 null)
+     */
+    @Query("SELECT MAX(pt.sortKey) FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId")
+    Long findMaxSortKeyByPlaylistId(@Param("playlistId") Long playlistId);
+
+    /**
+     * 플레이리스트 내 곡의 정렬 키
+     */
+    @Query("SELECT pt.sortKey FROM PlaylistTrack pt WHERE pt.playlist.id = :playlistId AND pt.track.id = :trackId")
+    Optional<Long> findSortKey(@Param("playlistId") Long playlistId, @Param("trackId") Long trackId);
+
+    /**
+     * 곡 하나의 정렬 키 변경 (곡 이동)
+     */
+    @Modifying
+    @Query("UPDATE PlaylistTrack pt SET pt.sortKey = :sortKey " +
+            "WHERE pt.playlist.id = :playlistId AND pt.track.id = :trackId")
+    void updateSortKey(
+            @Param("playlistId") Long playlistId,
+            @Param("trackId") Long trackId,
+            @Param("sortKey") Long sortKey
+    );
 }
@@ -0,0 +1,35 @@
+package com.example.musicBackend.feature.playlist.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPA로 처리하기 비효율적인 PlaylistTrack 대량 작업 (JDBC batch)
+ */
+public interface PlaylistTrackRepositoryCustom {
+
+    /**
+     * 곡들을 lastSortKey 뒤에 순서대로 한 번의 batch로 추가
+     *
+     * @param playlistId  플레이리스트 ID
+     * @param trackIds    추가할 곡의 Track ID (tracks.id) 목록
+     * @param lastSortKey 현재 마지막 곡의 정렬 키 (빈 플레이리스트면 null)
+     * @return 마지막으로 추가한 곡의 정렬 키
+     */
+    long batchInsert(Long playlistId, List<Long> trackIds, Long lastSortKey);
+
+    /**
+     * 플레이리스트 곡들의 정렬 키를 현재 순서 그대로 SortKeys.GAP 간격으로 다시 매김
+     *
+     * @return 마지막 곡의 정렬 키 (곡이 없으면 null)
+     */
+    Long renumberSortKeys(Long playlistId);
+
+    /**
+     * 여러 곡의 정렬 키를 한 번에 변경 (JDBC batch 1회)
+     * 행마다 바로 새 키를 쓰므로 새 키는 플레이리스트의 어떤 기존 키와도 겹치지 않아야 함 (SortKeys.reorder가 보장)
+     *
+     * @param sortKeysById PlaylistTrack id → 새 정렬 키
+     */
+    void updateSortKeys(Map<Long, Long> sortKeysById);
+}
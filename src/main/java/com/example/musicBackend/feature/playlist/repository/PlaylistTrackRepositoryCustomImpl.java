@@ -0,0 +1,70 @@
+package com.example.musicBackend.feature.playlist.repository;
+
+import com.example.musicBackend.feature.playlist.domain.SortKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class PlaylistTrackRepositoryCustomImpl implements PlaylistTrackRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO playlist_tracks (playlist_id, track_id, sort_key, added_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_IDS_SQL =
+            "SELECT id FROM playlist_tracks WHERE playlist_id = ? ORDER BY sort_key";
+
+    // 새 키와 겹치지 않도록 먼저 음수로 옮겨 둠 (키는 항상 1 이상이므로 -2 이하)
+    private static final String PARK_SQL =
+            "UPDATE playlist_tracks SET sort_key = -sort_key - 1 WHERE playlist_id = ?";
+
+    private static final String UPDATE_SORT_KEY_SQL =
+            "UPDATE playlist_tracks SET sort_key = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long batchInsert(Long playlistId, List<Long> trackIds, Long lastSortKey) {
+        // IDENTITY 키라서 Hibernate insert batching이 동작하지 않으므로 JDBC batch로 직접 추가
+        Timestamp addedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(trackIds.size());
+        Long sortKey = lastSortKey;
+        for (Long trackId : trackIds) {
+            sortKey = SortKeys.after(sortKey);
+            rows.add(new Object[]{playlistId, trackId, sortKey, addedAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        return sortKey;
+    }
+
+    @Override
+    public Long renumberSortKeys(Long playlistId) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_IDS_SQL, Long.class, playlistId);
+        if (ids.isEmpty()) {
+            return null;
+        }
+        jdbcTemplate.update(PARK_SQL, playlistId);
+
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rows.add(new Object[]{SortKeys.initial(i), ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_SORT_KEY_SQL, rows);
+        return SortKeys.initial(ids.size() - 1);
+    }
+
+    @Override
+    public void updateSortKeys(Map<Long, Long> sortKeysById) {
+        if (sortKeysById.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(sortKeysById.size());
+        sortKeysById.forEach((id, sortKey) -> rows.add(new Object[]{sortKey, id}));
+        jdbcTemplate.batchUpdate(UPDATE_SORT_KEY_SQL, rows);
+    }
+}
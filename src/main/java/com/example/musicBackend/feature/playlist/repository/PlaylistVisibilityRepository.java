@@ -15,4 +15,9 @@ public interface PlaylistVisibilityRepository extends JpaRepository<PlaylistVisi
     Optional<PlaylistVisibility> findByPlaylistAndUser(Playlist playlist, User user);
 
     void deleteByPlaylistAndUser(Playlist playlist, User user);
+
+    /**
+     * 공유 여부 확인 (uk_playlist_visibility_user 인덱스)
+     */
+    boolean existsByPlaylistIdAndUserId(Long playlistId, Long userId);
 }
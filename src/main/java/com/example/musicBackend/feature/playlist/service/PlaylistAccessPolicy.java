@@ -0,0 +1,86 @@
+package com.example.musicBackend.feature.playlist.service;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.domain.Visibility;
+import com.example.musicBackend.feature.playlist.event.PlaylistSharesChangedEvent;
+import com.example.musicBackend.feature.playlist.repository.PlaylistVisibilityRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 플레이리스트 조회 권한 판단
+ * PUBLIC: 모두, PRIVATE: 소유자만, SHARED: 소유자 또는 공유받은 사람만
+ * 공유 여부는 (playlist_id, user_id) 인덱스 EXISTS 한 번으로 확인하고 결과를 캐시 (공유 인원 수와 관계없이 일정한 비용)
+ * 공유 대상이 바뀌면 커밋 후 바뀐 (플레이리스트, 사용자) 항목만 무효화
+ * 지표는 cache=playlist.access 로 노출
+ */
+@Component
+public class PlaylistAccessPolicy {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    // 무효화가 누락되더라도 잘못된 판단이 남아 있는 최대 시간
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final PlaylistVisibilityRepository playlistVisibilityRepository;
+    private final Cache<ShareKey, Boolean> shares;
+
+    private record ShareKey(Long playlistId, Long userId) {
+    }
+
+    public PlaylistAccessPolicy(PlaylistVisibilityRepository playlistVisibilityRepository, MeterRegistry meterRegistry) {
+        this.playlistVisibilityRepository = playlistVisibilityRepository;
+        this.shares = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, shares, "playlist.access");
+    }
+
+    public boolean canRead(Playlist playlist, Long userId) {
+        Visibility visibility = playlist.getVisibility();
+        if (visibility == Visibility.PUBLIC) {
+            return true;
+        }
+        if (userId == null) {
+            return false;
+        }
+        if (playlist.getUser().getId().equals(userId)) {
+            return true;
+        }
+        return visibility == Visibility.SHARED && isSharedWith(playlist.getId(), userId);
+    }
+
+    /**
+     * 조회 권한이 없으면 RuntimeException
+     */
+    public void checkReadable(Playlist playlist, Long userId) {
+        if (canRead(playlist, userId)) {
+            return;
+        }
+        if (playlist.getVisibility() == Visibility.PRIVATE) {
+            throw new RuntimeException("비공개 플레이리스트는 작성자만 볼 수 있습니다.");
+        }
+        throw new RuntimeException("이 플레이리스트에 접근할 권한이 없습니다.");
+    }
+
+    private boolean isSharedWith(Long playlistId, Long userId) {
+        return shares.get(new ShareKey(playlistId, userId),
+                key -> playlistVisibilityRepository.existsByPlaylistIdAndUserId(key.playlistId(), key.userId()));
+    }
+
+    /**
+     * 공유 대상 변경이 커밋된 뒤 바뀐 항목만 제거 (커밋 전에 지우면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSharesChanged(PlaylistSharesChangedEvent event) {
+        event.userIds().forEach(userId -> shares.invalidate(new ShareKey(event.playlistId(), userId)));
+    }
+}
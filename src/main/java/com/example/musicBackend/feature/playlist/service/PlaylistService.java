@@ -1,7 +1,14 @@
 package com.example.musicBackend.feature.playlist.service;
 
+import com.example.musicBackend.feature.playlist.dto.AppendTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistHeaderResponseDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistRequestDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksRequestDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksResponseDto;
+import com.example.musicBackend.global.dto.CursorPageResponseDto;
 
 import java.util.List;
 
@@ -10,17 +17,38 @@ public interface PlaylistService {
 
     List<PlaylistResponseDto> getUserPlaylists(Long userId);
 
+    List<PlaylistSummaryResponseDto> getUserPlaylistSummaries(Long userId);
+
     List<PlaylistResponseDto> getPublicPlaylists();
 
+    List<PlaylistSummaryResponseDto> getPublicPlaylistSummaries();
+
+    CursorPageResponseDto<PlaylistResponseDto> getPublicPlaylistFeed(String cursor, Integer limit);
+
+    CursorPageResponseDto<PlaylistSummaryResponseDto> getPublicPlaylistSummaryFeed(String cursor, Integer limit);
+
+    CursorPageResponseDto<PlaylistSummaryResponseDto> getSharedWithPlaylists(Long userId, String cursor, Integer limit);
+
     PlaylistResponseDto getPlaylist(Long playlistId, Long requesterId);
 
+    PlaylistHeaderResponseDto getPlaylistHeader(Long playlistId, Long requesterId);
+
+    CursorPageResponseDto<PlaylistTrackResponseDto> getPlaylistTracks(Long playlistId, Long requesterId,
+                                                                        String after, Integer limit);
+
     PlaylistResponseDto updatePlaylist(Long playlistId, Long userId, PlaylistRequestDto request);
 
     void deletePlaylist(Long playlistId, Long userId);
 
     PlaylistResponseDto addTrackToPlaylist(Long playlistId, Long userId, Long trackId);
 
+    AppendTrackResponseDto appendTrack(Long playlistId, Long userId, Long trackId);
+
+    PlaylistResponseDto addTracksToPlaylist(Long playlistId, Long userId, List<Long> trackIds);
+
     void removeTrackFromPlaylist(Long playlistId, Long userId, Long trackId);
 
     PlaylistResponseDto updateTrackPosition(Long playlistId, Long userId, Long trackId, Integer newPosition);
+
+    ReorderTracksResponseDto reorderTracks(Long playlistId, Long userId, ReorderTracksRequestDto request);
 }
\ No newline at end of file
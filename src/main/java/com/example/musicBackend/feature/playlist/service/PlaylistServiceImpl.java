@@ -4,25 +4,45 @@ import com.example.musicBackend.external.itunes.service.ItunesService;
 import com.example.musicBackend.feature.playlist.domain.Playlist;
 import com.example.musicBackend.feature.playlist.domain.PlaylistTrack;
 import com.example.musicBackend.feature.playlist.domain.PlaylistVisibility;
+import com.example.musicBackend.feature.playlist.domain.SortKeys;
 import com.example.musicBackend.feature.playlist.domain.Visibility;
+import com.example.musicBackend.feature.playlist.dto.AppendTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistFeedCursor;
+import com.example.musicBackend.feature.playlist.dto.PlaylistHeaderResponseDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistRequestDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackCursor;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackOrderRow;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackResponseDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksRequestDto;
+import com.example.musicBackend.feature.playlist.dto.ReorderTracksResponseDto;
+import com.example.musicBackend.feature.playlist.event.PlaylistSharesChangedEvent;
+import com.example.musicBackend.feature.playlist.event.PlaylistTracksChangedEvent;
 import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
 import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
 import com.example.musicBackend.feature.playlist.repository.PlaylistVisibilityRepository;
 import com.example.musicBackend.feature.track.domain.Track;
 import com.example.musicBackend.feature.user.domain.User;
 import com.example.musicBackend.feature.user.repository.UserRepository;
+import com.example.musicBackend.global.dto.CursorPageResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,11 +50,23 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlaylistServiceImpl implements PlaylistService {
 
+    private static final int MAX_BULK_TRACKS = 500;
+
+    private static final int DEFAULT_FEED_LIMIT = 20;
+    private static final int MAX_FEED_LIMIT = 50;
+
+    private static final int DEFAULT_TRACK_PAGE_LIMIT = 100;
+    private static final int MAX_TRACK_PAGE_LIMIT = 500;
+
     private final PlaylistRepository playlistRepository;
     private final PlaylistTrackRepository playlistTrackRepository;
     private final PlaylistVisibilityRepository playlistVisibilityRepository;
+    private final PlaylistTrackRebalancer playlistTrackRebalancer;
+    private final PlaylistAccessPolicy playlistAccessPolicy;
     private final UserRepository userRepository;
     private final ItunesService itunesService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 플레이리스트 생성
@@ -70,71 +102,212 @@ public class PlaylistServiceImpl implements PlaylistService {
     @Override
     @Transactional(readOnly = true)
     public List<PlaylistResponseDto> getUserPlaylists(Long userId) {
-        return playlistRepository.findByUserId(userId).stream()
+        return withTracks(playlistRepository.findByUserId(userId)).stream()
                 .map(PlaylistResponseDto::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 목록의 곡 목록을 곡 정보와 함께 한 번에 채움 (PlaylistResponseDto 변환 전)
+     */
+    private List<Playlist> withTracks(List<Playlist> playlists) {
+        if (!playlists.isEmpty()) {
+            playlistRepository.fetchTracks(playlists);
+        }
+        return playlists;
+    }
+
+    /**
+     * 특정 사용자의 플레이리스트 요약 목록 조회 (곡 수/총 재생 시간 포함, 쿼리 1번)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<PlaylistSummaryResponseDto> getUserPlaylistSummaries(Long userId) {
+        return playlistRepository.findSummariesByUserId(userId);
+    }
+
     /**
      * 공개 플레이리스트 목록 조회
      */
     @Override
     @Transactional(readOnly = true)
     public List<PlaylistResponseDto> getPublicPlaylists() {
-        return playlistRepository.findByVisibility(Visibility.PUBLIC).stream()
+        return withTracks(playlistRepository.findByVisibility(Visibility.PUBLIC)).stream()
                 .map(PlaylistResponseDto::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 특정 플레이리스트 조회
+     * 공개 플레이리스트 요약 목록 조회 (쿼리 1번)
      */
     @Override
     @Transactional(readOnly = true)
-    public PlaylistResponseDto getPlaylist(Long playlistId, Long requesterId) {
-        Playlist playlist = playlistRepository.findById(playlistId)
-                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+    public List<PlaylistSummaryResponseDto> getPublicPlaylistSummaries() {
+        return playlistRepository.findSummariesByVisibility(Visibility.PUBLIC);
+    }
 
-        // ===== 권한 검사 로직 추가 =====
-        Visibility visibility = playlist.getVisibility();
-        Long ownerId = playlist.getUser().getId();
+    /**
+     * 공개 플레이리스트 최신순 커서 페이지 조회
+     * (updatedAt, id) 커서 이후부터 limit개 - OFFSET 없이 인덱스에서 바로 이어 읽음
+     * 한 개를 더 조회해서 다음 페이지가 있는지 판단
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PlaylistResponseDto> getPublicPlaylistFeed(String cursor, Integer limit) {
+        int pageSize = feedPageSize(limit);
+        PlaylistFeedCursor after = PlaylistFeedCursor.decode(cursor);
+        List<Playlist> playlists = after == null
+                ? playlistRepository.findByVisibilityOrderByUpdatedAtDescIdDesc(Visibility.PUBLIC, Limit.of(pageSize + 1))
+                : playlistRepository.findByVisibilityBefore(Visibility.PUBLIC, after.updatedAt(), after.id(),
+                        Limit.of(pageSize + 1));
+        withTracks(playlists.subList(0, Math.min(pageSize, playlists.size())));
+
+        return toFeedPage(playlists, pageSize,
+                playlist -> new PlaylistFeedCursor(playlist.getUpdatedAt(), playlist.getId()),
+                PlaylistResponseDto::from);
+    }
 
-        // 1. PUBLIC: 모두 접근 가능 → 아무 검사 없이 통과
-        if (visibility == Visibility.PUBLIC) {
-            // 공개 플레이리스트는 누구나 볼 수 있음
-            return PlaylistResponseDto.from(playlist);
-        }
+    /**
+     * 공개 플레이리스트 최신순 커서 페이지 조회 (요약, 페이지당 쿼리 1번)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PlaylistSummaryResponseDto> getPublicPlaylistSummaryFeed(String cursor, Integer limit) {
+        int pageSize = feedPageSize(limit);
+        PlaylistFeedCursor after = PlaylistFeedCursor.decode(cursor);
+        List<PlaylistSummaryResponseDto> summaries = after == null
+                ? playlistRepository.findSummariesByVisibility(Visibility.PUBLIC, Limit.of(pageSize + 1))
+                : playlistRepository.findSummariesByVisibilityBefore(Visibility.PUBLIC, after.updatedAt(), after.id(),
+                        Limit.of(pageSize + 1));
+
+        return toFeedPage(summaries, pageSize,
+                summary -> new PlaylistFeedCursor(summary.updatedAt(), summary.id()),
+                Function.identity());
+    }
 
-        // 2. PRIVATE: 소유자만 접근 가능
-        if (visibility == Visibility.PRIVATE) {
-            if (!ownerId.equals(requesterId)) {
-                throw new RuntimeException("비공개 플레이리스트는 작성자만 볼 수 있습니다.");
+    /**
+     * 사용자에게 공유된 플레이리스트 요약 커서 페이지 조회 (공유받은 순서와 무관하게 플레이리스트 id 역순)
+     * cursor는 마지막으로 받은 플레이리스트 id
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PlaylistSummaryResponseDto> getSharedWithPlaylists(Long userId, String cursor, Integer limit) {
+        int pageSize = feedPageSize(limit);
+        long afterId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 cursor입니다.");
             }
-            return PlaylistResponseDto.from(playlist);
         }
 
-        // 3. SHARED: 소유자 또는 공유받은 사람만 접근 가능
-        if (visibility == Visibility.SHARED) {
-            // 소유자인 경우 통과
-            if (ownerId.equals(requesterId)) {
-                return PlaylistResponseDto.from(playlist);
-            }
-
-            // 공유 목록에 있는지 확인
-            boolean isSharedUser = playlist.getPlaylistVisibilities().stream()
-                    .anyMatch(pv -> pv.getUser().getId().equals(requesterId));
+        List<PlaylistSummaryResponseDto> summaries = playlistRepository.findSharedSummaries(userId, Visibility.SHARED,
+                afterId, Limit.of(pageSize + 1));
 
-            if (!isSharedUser) {
-                throw new RuntimeException("이 플레이리스트에 접근할 권한이 없습니다.");
-            }
+        boolean hasNext = summaries.size() > pageSize;
+        List<PlaylistSummaryResponseDto> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).id()) : null;
+        return new CursorPageResponseDto<>(page, nextCursor);
+    }
 
-            return PlaylistResponseDto.from(playlist);
+    private static int feedPageSize(Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_FEED_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_FEED_LIMIT + " 사이여야 합니다.");
         }
+        return pageSize;
+    }
 
-        // 혹시 모를 예외 상황 (여기까지 오면 안됨)
+    /**
+     * pageSize + 1개 조회 결과를 페이지로 (넘치는 한 개가 있으면 마지막 항목 위치를 nextCursor로)
+     */
+    private static <R, T> CursorPageResponseDto<T> toFeedPage(List<R> rows, int pageSize,
+                                                              Function<R, PlaylistFeedCursor> cursorOf,
+                                                              Function<R, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<R> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        List<T> items = page.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+        return new CursorPageResponseDto<>(items, nextCursor);
+    }
+
+    /**
+     * 특정 플레이리스트 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistResponseDto getPlaylist(Long playlistId, Long requesterId) {
+        Playlist playlist = playlistRepository.findByIdWithTracks(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+        playlistAccessPolicy.checkReadable(playlist, requesterId);
         return PlaylistResponseDto.from(playlist);
     }
 
+    /**
+     * 플레이리스트 정보만 조회 (곡 목록 제외)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PlaylistHeaderResponseDto getPlaylistHeader(Long playlistId, Long requesterId) {
+        Playlist playlist = playlistRepository.findByIdWithUser(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+        playlistAccessPolicy.checkReadable(playlist, requesterId);
+        return PlaylistHeaderResponseDto.from(playlist);
+    }
+
+    /**
+     * 플레이리스트 곡 커서 페이지 조회
+     * 정렬 키 인덱스에서 cursor 다음 곡부터 limit개만 읽으므로 곡 수와 관계없이 페이지 크기만큼만 조회
+     * 커서를 만든 뒤 정렬 키가 전체 다시 매겨졌으면 이어서 조회할 수 없으므로 400
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<PlaylistTrackResponseDto> getPlaylistTracks(Long playlistId, Long requesterId,
+                                                                               String after, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_TRACK_PAGE_LIMIT;
+        if (pageSize < 1 || pageSize > MAX_TRACK_PAGE_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + MAX_TRACK_PAGE_LIMIT + " 사이여야 합니다.");
+        }
+        PlaylistTrackCursor cursor = PlaylistTrackCursor.decode(after);
+
+        Playlist playlist = playlistRepository.findByIdWithUser(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+        playlistAccessPolicy.checkReadable(playlist, requesterId);
+
+        long afterSortKey = Long.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        int firstPosition = 0;
+        if (cursor != null) {
+            if (cursor.sortKeyVersion() != playlist.getSortKeyVersion()) {
+                throw new IllegalArgumentException("곡 순서가 다시 매겨져 cursor를 사용할 수 없습니다. 처음부터 다시 조회해 주세요.");
+            }
+            afterSortKey = cursor.sortKey();
+            afterId = cursor.playlistTrackId();
+            // 앞쪽 곡이 추가/삭제/이동됐을 수 있으므로 position은 매번 다시 셈
+            firstPosition = (int) playlistTrackRepository.countUpTo(playlistId, afterSortKey, afterId);
+        }
+        List<PlaylistTrack> playlistTracks = playlistTrackRepository.findPageAfter(playlistId, afterSortKey, afterId,
+                Limit.of(pageSize + 1));
+
+        boolean hasNext = playlistTracks.size() > pageSize;
+        List<PlaylistTrack> page = hasNext ? playlistTracks.subList(0, pageSize) : playlistTracks;
+        List<PlaylistTrackResponseDto> items = new ArrayList<>(page.size());
+        for (int i = 0; i < page.size(); i++) {
+            items.add(PlaylistTrackResponseDto.from(page.get(i), firstPosition + i));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            PlaylistTrack last = page.get(page.size() - 1);
+            nextCursor = new PlaylistTrackCursor(playlist.getSortKeyVersion(), last.getSortKey(), last.getId()).encode();
+        }
+        return new CursorPageResponseDto<>(items, nextCursor);
+    }
+
     /**
      * 플레이리스트 정보 수정
      */
@@ -193,19 +366,73 @@ public class PlaylistServiceImpl implements PlaylistService {
             throw new RuntimeException("플레이리스트를 삭제할 권한이 없습니다.");
         }
 
+        List<Long> trackIds = playlistTrackRepository.findTrackIdsByPlaylistId(playlistId);
         playlistRepository.delete(playlist);
+        publishTracksChanged(playlist, trackIds);
         log.info("플레이리스트 삭제 완료");
     }
 
     /**
      * 플레이리스트에 곡 추가
+     * 곡 조회/저장은 트랜잭션 밖에서 먼저 수행 (같은 곡을 동시에 추가할 때 커넥션을 잡은 채 대기하지 않도록)
+     * 단, 권한이 없는 요청으로 iTunes 호출/곡 저장이 일어나지 않도록 소유 여부는 그 전에 확인
+     * 응답에 전체 곡 목록이 필요 없으면 appendTrack 사용
      */
     @Override
-    @Transactional
     public PlaylistResponseDto addTrackToPlaylist(Long playlistId, Long userId, Long trackId) {
         log.info("트랙 추가 - playlistId: {}, trackId: {}", playlistId, trackId);
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        // iTunes 조회/곡 저장 전에 권한부터 확인 (잠금 후 append에서 다시 확인)
+        checkOwner(playlistId, userId);
+        Track track = itunesService.getOrCreateTrackEntity(trackId);
+
+        return transactionTemplate.execute(status -> {
+            Playlist playlist = append(playlistId, userId, track).getPlaylist();
+            return PlaylistResponseDto.from(playlist);
+        });
+    }
+
+    /**
+     * 플레이리스트 맨 뒤에 곡 추가 (전체 곡 목록을 불러오지 않음)
+     * 플레이리스트 크기와 관계없이 조회(잠금)/중복 확인/INSERT/UPDATE 각 한 번
+     */
+    @Override
+    public AppendTrackResponseDto appendTrack(Long playlistId, Long userId, Long trackId) {
+        log.info("트랙 추가 (append) - playlistId: {}, trackId: {}", playlistId, trackId);
+
+        // iTunes 조회/곡 저장 전에 권한부터 확인 (잠금 후 append에서 다시 확인)
+        checkOwner(playlistId, userId);
+        Track track = itunesService.getOrCreateTrackEntity(trackId);
+
+        return transactionTemplate.execute(status -> {
+            PlaylistTrack playlistTrack = append(playlistId, userId, track);
+            Playlist playlist = playlistTrack.getPlaylist();
+            // 응답의 updatedAt이 저장된 값과 같도록 바로 반영
+            playlistRepository.flush();
+            return new AppendTrackResponseDto(
+                    playlistId,
+                    PlaylistTrackResponseDto.from(playlistTrack, playlist.getTrackCount() - 1),
+                    playlist.getTrackCount(),
+                    playlist.getUpdatedAt()
+            );
+        });
+    }
+
+    /**
+     * 잠금 없이 소유 여부만 확인 (없는 플레이리스트와 권한 없음을 구분하는 조회는 실패할 때만)
+     */
+    private void checkOwner(Long playlistId, Long userId) {
+        if (playlistRepository.existsByIdAndUserId(playlistId, userId)) {
+            return;
+        }
+        if (!playlistRepository.existsById(playlistId)) {
+            throw new RuntimeException("플레이리스트를 찾을 수 없습니다.");
+        }
+        throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
+    }
+
+    private PlaylistTrack append(Long playlistId, Long userId, Track track) {
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         // 권한 확인
@@ -213,34 +440,79 @@ public class PlaylistServiceImpl implements PlaylistService {
             throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
         }
 
-        Track track = itunesService.getOrCreateTrackEntity(trackId);
-
         // 중복 체크
-        boolean alreadyExists = playlist.getPlaylistTracks().stream()
-                .anyMatch(pt -> pt.getTrack().getId().equals(track.getId()));
-
-        if (alreadyExists) {
+        if (playlistTrackRepository.existsByPlaylistIdAndTrackId(playlistId, track.getId())) {
             throw new IllegalArgumentException("이미 플레이리스트에 추가된 곡입니다.");
         }
 
-        // 다음 position 계산
-        int nextPosition = playlist.getPlaylistTracks().size();
-
+        long sortKey = SortKeys.after(playlist.getLastSortKey());
         PlaylistTrack playlistTrack = PlaylistTrack.builder()
                 .playlist(playlist)
                 .track(track)
-                .position(nextPosition)
+                .sortKey(sortKey)
                 .build();
-
-        playlist.getPlaylistTracks().add(playlistTrack);
         playlistTrackRepository.save(playlistTrack);
+        publishTracksChanged(playlist, List.of(track.getId()));
         log.info("곡 추가 완료");
 
+        playlist.tracksAppended(1, sortKey);
         playlist.touch();
-        playlistRepository.save(playlist);
         log.info("플레이리스트 갱신 완료");
+        return playlistTrack;
+    }
 
-        return PlaylistResponseDto.from(playlist);
+    /**
+     * 플레이리스트에 여러 곡 한 번에 추가 (앨범 저장, 가져오기 등)
+     * DB에 없는 곡은 iTunes lookup으로 묶어서 조회하고, 곡 추가는 한 트랜잭션에서 JDBC batch로 처리
+     * 이미 담긴 곡과 요청 내 중복 곡은 건너뜀
+     */
+    @Override
+    public PlaylistResponseDto addTracksToPlaylist(Long playlistId, Long userId, List<Long> trackIds) {
+        log.info("트랙 일괄 추가 - playlistId: {}, 곡 수: {}", playlistId, trackIds != null ? trackIds.size() : 0);
+
+        if (trackIds == null || trackIds.isEmpty()) {
+            throw new IllegalArgumentException("추가할 곡을 하나 이상 지정해야 합니다.");
+        }
+        if (trackIds.size() > MAX_BULK_TRACKS) {
+            throw new IllegalArgumentException("한 번에 추가할 수 있는 곡은 최대 " + MAX_BULK_TRACKS + "개입니다.");
+        }
+
+        // 최대 MAX_BULK_TRACKS곡의 iTunes 조회/저장 전에 권한부터 확인 (잠금 후 다시 확인)
+        checkOwner(playlistId, userId);
+        List<Track> tracks = itunesService.getOrCreateTrackEntities(trackIds);
+
+        return transactionTemplate.execute(status -> {
+            Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                    .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+
+            // 권한 확인
+            if (!playlist.getUser().getId().equals(userId)) {
+                throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
+            }
+
+            // 중복 제외
+            Set<Long> existingTrackIds = new HashSet<>(playlistTrackRepository.findTrackIdsByPlaylistId(playlistId));
+            List<Long> newTrackIds = new ArrayList<>();
+            for (Track track : tracks) {
+                if (existingTrackIds.add(track.getId())) {
+                    newTrackIds.add(track.getId());
+                }
+            }
+
+            if (!newTrackIds.isEmpty()) {
+                long lastSortKey = playlistTrackRepository.batchInsert(playlistId, newTrackIds, playlist.getLastSortKey());
+                publishTracksChanged(playlist, newTrackIds);
+                log.info("곡 일괄 추가 완료 - 추가: {}, 중복 제외: {}", newTrackIds.size(), tracks.size() - newTrackIds.size());
+
+                playlist.tracksAppended(newTrackIds.size(), lastSortKey);
+                playlist.touch();
+                playlistRepository.save(playlist);
+                log.info("플레이리스트 갱신 완료");
+            }
+
+            // playlistTracks는 아직 로딩 전이므로 JDBC로 추가한 곡까지 함께 조회됨
+            return PlaylistResponseDto.from(playlist);
+        });
     }
 
     /**
@@ -252,7 +524,7 @@ public class PlaylistServiceImpl implements PlaylistService {
         log.info("트랙 제거 - playlistId: {}, trackId: {}", playlistId, trackId);
 
         // 1. 플레이리스트 조회
-        Playlist playlist = playlistRepository.findById(playlistId)
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         // 2. 권한 확인
@@ -260,22 +532,16 @@ public class PlaylistServiceImpl implements PlaylistService {
             throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
         }
 
-        // 3. 삭제할 곡의 현재 position 조회 (재정렬에 필요)
+        // 3. 곡 삭제 (position은 정렬 키 순서로 계산되므로 뒤 곡들은 수정하지 않음)
         PlaylistTrack playlistTrack = playlistTrackRepository
                 .findByPlaylistIdAndTrackId(playlistId, trackId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트에 해당 곡이 없습니다."));
 
-        Integer deletedPosition = playlistTrack.getPosition();
-        log.info("삭제할 곡의 position: {}", deletedPosition);
-
-        // 4. 곡 삭제
-        playlistTrackRepository.deleteByPlaylistIdAndTrackId(playlistId, trackId);
+        playlistTrackRepository.delete(playlistTrack);
+        publishTracksChanged(playlist, List.of(playlistTrack.getTrack().getId()));
         log.info("곡 삭제 완료");
 
-        // 5. 삭제된 position보다 큰 곡들의 position을 -1 감소
-        playlistTrackRepository.decrementPositionsAfter(playlistId, deletedPosition);
-        log.info("순서 재정렬 완료 (position > {} 인 곡들 -1)", deletedPosition);
-
+        playlist.trackRemoved();
         playlist.touch();
         playlistRepository.save(playlist);
         log.info("플레이리스트 갱신 완료");
@@ -283,13 +549,15 @@ public class PlaylistServiceImpl implements PlaylistService {
 
     /**
      * 플레이리스트 내 곡 순서 변경
+     * 이동할 곡의 정렬 키만 새 이웃 키 사이 값으로 바꿈 (한 행만 수정)
+     * 이웃 키 사이에 빈 값이 없으면 그 자리에서 전체 재정렬 후 다시 계산
      */
     @Override
     @Transactional
     public PlaylistResponseDto updateTrackPosition(Long playlistId, Long userId, Long trackId, Integer newPosition) {
         log.info("트랙 순서 변경 - playlistId: {}, trackId: {}, newPosition: {}", playlistId, trackId, newPosition);
 
-        Playlist playlist = playlistRepository.findById(playlistId)
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
                 .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
 
         // 권한 확인
@@ -297,66 +565,149 @@ public class PlaylistServiceImpl implements PlaylistService {
             throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
         }
 
+        Long sortKey = playlistTrackRepository.findSortKey(playlistId, trackId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트에 해당 곡이 없습니다."));
+
+        List<Long> sortKeys = playlistTrackRepository.findSortKeysByPlaylistId(playlistId);
+
         //position값 검증
-        int playlistSize = playlist.getPlaylistTracks().size();
+        int playlistSize = sortKeys.size();
         if (newPosition < 0 || newPosition >= playlistSize) {
             throw new IllegalArgumentException("요청한 position이 유효한 범위를 벗어났습니다. (유효 범위: 0 ~ " + (playlistSize - 1) + ")");
         }
 
-        PlaylistTrack playlistTrack = playlistTrackRepository.findByPlaylistIdAndTrackId(playlistId, trackId)
-                .orElseThrow(() -> new RuntimeException("플레이리스트에 해당 곡이 없습니다."));
-
-        int oldPosition = playlistTrack.getPosition();
-
         // 같은 위치면 아무것도 안 함
-        if (oldPosition == newPosition) {
+        if (sortKeys.indexOf(sortKey) == newPosition) {
             return PlaylistResponseDto.from(playlist);
         }
 
-        // position 맞교환시 db에 저장할때 유니크 오류때문에 임시 해결책 (이동할 곡을 임시 position으로 이동)
-        playlistTrack.setPosition(-1);
-        playlistTrackRepository.save(playlistTrack);
-        playlistTrackRepository.flush();  // 즉시 DB 반영
+        Long newSortKey = sortKeyAt(playlistId, sortKeys, sortKey, newPosition);
+        if (newSortKey == null) {
+            playlistTrackRebalancer.rebalance(playlistId);
+            // 재정렬 후 이동할 곡의 키도 바뀌었으므로 다시 조회
+            sortKey = playlistTrackRepository.findSortKey(playlistId, trackId).orElseThrow();
+            newSortKey = sortKeyAt(playlistId, playlistTrackRepository.findSortKeysByPlaylistId(playlistId),
+                    sortKey, newPosition);
+        }
 
-        // 순서 재조정
-        if (newPosition < oldPosition) {
-            // 위로 이동
-            List<PlaylistTrack> tracksToShift = playlist.getPlaylistTracks().stream()
-                    .filter(ps -> ps.getPosition() >= newPosition && ps.getPosition() < oldPosition)
-                    .collect(Collectors.toList());
+        // 영속성 컨텍스트에 PlaylistTrack을 올리지 않고 한 행만 UPDATE (응답의 곡 목록은 DB에서 새로 읽음)
+        playlistTrackRepository.updateSortKey(playlistId, trackId, newSortKey);
+        playlist.coverSortKey(newSortKey);
+        log.info("곡 순서 변경 완료 - sortKey: {}", newSortKey);
 
-            for (PlaylistTrack ps : tracksToShift) {
-                ps.setPosition(ps.getPosition() + 1);
-            }
+        playlist.touch();
+        playlistRepository.save(playlist);
+        log.info("플레이리스트 갱신 완료");
+
+        return PlaylistResponseDto.from(playlist);
+    }
+
+    /**
+     * 곡 순서 일괄 변경 (전체 순서 또는 이동 목록)
+     * 현재 곡 목록과 맞는지 검증한 뒤, 바뀐 곡의 정렬 키만 한 트랜잭션에서 JDBC batch로 씀
+     */
+    @Override
+    @Transactional
+    public ReorderTracksResponseDto reorderTracks(Long playlistId, Long userId, ReorderTracksRequestDto request) {
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId)
+                .orElseThrow(() -> new RuntimeException("플레이리스트를 찾을 수 없습니다."));
+
+        // 권한 확인
+        if (!playlist.getUser().getId().equals(userId)) {
+            throw new RuntimeException("플레이리스트를 수정할 권한이 없습니다.");
+        }
+
+        List<PlaylistTrackOrderRow> currentOrder = playlistTrackRepository.findOrderByPlaylistId(playlistId);
+        List<Long> desiredOrder = desiredOrder(currentOrder, request);
+        log.info("트랙 순서 일괄 변경 - playlistId: {}, 곡 수: {}", playlistId, desiredOrder.size());
 
-            playlistTrackRepository.saveAll(tracksToShift);
-            playlistTrackRepository.flush();  // 즉시 DB 반영
+        Map<Long, PlaylistTrackOrderRow> rowsByTrackId = new HashMap<>();
+        for (PlaylistTrackOrderRow row : currentOrder) {
+            rowsByTrackId.put(row.trackId(), row);
+        }
 
-        } else {
-            // 아래로 이동
-            List<PlaylistTrack> tracksToShift = playlist.getPlaylistTracks().stream()
-                    .filter(ps -> ps.getPosition() > oldPosition && ps.getPosition() <= newPosition)
-                    .collect(Collectors.toList());
+        long[] currentKeys = new long[desiredOrder.size()];
+        for (int i = 0; i < currentKeys.length; i++) {
+            currentKeys[i] = rowsByTrackId.get(desiredOrder.get(i)).sortKey();
+        }
+        long[] newKeys = SortKeys.reorder(currentKeys);
 
-            for (PlaylistTrack ps : tracksToShift) {
-                ps.setPosition(ps.getPosition() - 1);
+        Map<Long, Long> changedSortKeys = new LinkedHashMap<>();
+        for (int i = 0; i < newKeys.length; i++) {
+            if (newKeys[i] != currentKeys[i]) {
+                changedSortKeys.put(rowsByTrackId.get(desiredOrder.get(i)).id(), newKeys[i]);
             }
+        }
 
-            playlistTrackRepository.saveAll(tracksToShift);
-            playlistTrackRepository.flush();  // 즉시 DB 반영
+        if (!changedSortKeys.isEmpty()) {
+            playlistTrackRepository.updateSortKeys(changedSortKeys);
+            playlist.coverSortKey(newKeys[newKeys.length - 1]);
+            if (changedSortKeys.size() == newKeys.length) {
+                // 모든 키를 기존 최대 키 뒤로 다시 매긴 경우 (이전 곡 페이지 커서 무효)
+                playlist.sortKeysRenumbered(newKeys[newKeys.length - 1]);
+            }
+            playlist.touch();
+            // 응답의 updatedAt이 저장된 값과 같도록 바로 반영
+            playlistRepository.saveAndFlush(playlist);
         }
+        log.info("곡 순서 일괄 변경 완료 - 변경된 곡 수: {}", changedSortKeys.size());
 
-        playlistTrack.setPosition(newPosition);
-        playlistTrackRepository.save(playlistTrack);// 위에서 saveAll, flush 했으니 이동할 곡만 저장
-        log.info("곡 순서 변경 완료");
+        return new ReorderTracksResponseDto(playlistId, desiredOrder.size(), changedSortKeys.size(),
+                playlist.getUpdatedAt());
+    }
 
-        playlist.touch();
-        playlistRepository.save(playlist);
-        log.info("플레이리스트 갱신 완료");
+    /**
+     * 요청을 적용한 전체 곡 순서 (Track ID 목록)
+     */
+    private List<Long> desiredOrder(List<PlaylistTrackOrderRow> currentOrder, ReorderTracksRequestDto request) {
+        boolean hasOrder = request.trackIds() != null;
+        boolean hasMoves = request.moves() != null;
+        if (hasOrder == hasMoves) {
+            throw new IllegalArgumentException("trackIds와 moves 중 하나만 지정해야 합니다.");
+        }
 
-        // 새로 고침해서 반환
-        playlist = playlistRepository.findById(playlistId).get();
-        return PlaylistResponseDto.from(playlist);
+        List<Long> order = currentOrder.stream()
+                .map(PlaylistTrackOrderRow::trackId)
+                .collect(Collectors.toList());
+
+        if (hasOrder) {
+            List<Long> trackIds = request.trackIds();
+            if (trackIds.size() != order.size() || !new HashSet<>(trackIds).equals(new HashSet<>(order))) {
+                throw new IllegalArgumentException("trackIds는 플레이리스트의 모든 곡을 한 번씩 포함해야 합니다.");
+            }
+            return trackIds;
+        }
+
+        for (ReorderTracksRequestDto.Move move : request.moves()) {
+            if (move.trackId() == null || move.newPosition() == null) {
+                throw new IllegalArgumentException("moves의 trackId와 newPosition은 필수입니다.");
+            }
+            if (move.newPosition() < 0 || move.newPosition() >= order.size()) {
+                throw new IllegalArgumentException("요청한 position이 유효한 범위를 벗어났습니다. (유효 범위: 0 ~ " + (order.size() - 1) + ")");
+            }
+            if (!order.remove(move.trackId())) {
+                throw new IllegalArgumentException("플레이리스트에 없는 곡입니다: " + move.trackId());
+            }
+            order.add(move.newPosition(), move.trackId());
+        }
+        return order;
+    }
+
+    /**
+     * movingSortKey 곡을 newPosition으로 옮길 때의 새 정렬 키 (빈 키가 없으면 null)
+     * 간격이 좁아지면 다음 이동을 위해 백그라운드 재정렬 요청
+     */
+    private Long sortKeyAt(Long playlistId, List<Long> sortKeys, Long movingSortKey, int newPosition) {
+        List<Long> others = new ArrayList<>(sortKeys);
+        others.remove(movingSortKey);
+
+        Long prev = newPosition > 0 ? others.get(newPosition - 1) : null;
+        Long next = newPosition < others.size() ? others.get(newPosition) : null;
+        Long sortKey = SortKeys.between(prev, next);
+        if (sortKey != null && SortKeys.isCrowded(prev, sortKey, next)) {
+            playlistTrackRebalancer.request(playlistId);
+        }
+        return sortKey;
     }
 
     /**
@@ -364,13 +715,16 @@ public class PlaylistServiceImpl implements PlaylistService {
      */
     private void syncSharedUsers(Playlist playlist, Visibility visibility, List<Long> sharedUserIds, boolean shouldUpdateList) {
         List<PlaylistVisibility> current = new ArrayList<>(playlist.getPlaylistVisibilities());
+        Set<Long> changedUserIds = new HashSet<>();
 
         // 공유 상태가 아니면 모든 공유 관계 삭제
         if (visibility != Visibility.SHARED) {
             if (!current.isEmpty()) {
+                current.forEach(pv -> changedUserIds.add(pv.getUser().getId()));
                 playlistVisibilityRepository.deleteAll(current);
                 playlist.getPlaylistVisibilities().clear();
             }
+            publishSharesChanged(playlist, changedUserIds);
             return;
         }
 
@@ -388,6 +742,7 @@ public class PlaylistServiceImpl implements PlaylistService {
             if (!desired.contains(userId)) {
                 playlistVisibilityRepository.delete(pv);
                 playlist.getPlaylistVisibilities().remove(pv);
+                changedUserIds.add(userId);
             } else {
                 desired.remove(userId); // 중복을 피하기 위해 desired에서 제거
             }
@@ -403,6 +758,26 @@ public class PlaylistServiceImpl implements PlaylistService {
                     .build();
             playlist.getPlaylistVisibilities().add(visibilityEntry); // 메모리상에서 업데이트
             playlistVisibilityRepository.save(visibilityEntry); // 업데이트한것을 DB에 저장
+            changedUserIds.add(userId);
+        }
+        publishSharesChanged(playlist, changedUserIds);
+    }
+
+    /**
+     * 공유 대상이 바뀐 사용자의 권한 캐시 무효화 (커밋 후 PlaylistAccessPolicy에서 처리)
+     */
+    private void publishSharesChanged(Playlist playlist, Set<Long> changedUserIds) {
+        if (!changedUserIds.isEmpty()) {
+            eventPublisher.publishEvent(new PlaylistSharesChangedEvent(playlist.getId(), changedUserIds));
+        }
+    }
+
+    /**
+     * 곡이 추가/제거된 뒤 자동완성 인기도 갱신 (커밋 후 TrackSuggestIndex에서 처리)
+     */
+    private void publishTracksChanged(Playlist playlist, List<Long> trackIds) {
+        if (!trackIds.isEmpty()) {
+            eventPublisher.publishEvent(new PlaylistTracksChangedEvent(playlist.getId(), trackIds));
         }
     }
 }
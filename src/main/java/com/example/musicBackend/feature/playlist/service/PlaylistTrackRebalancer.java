@@ -0,0 +1,73 @@
+package com.example.musicBackend.feature.playlist.service;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
+import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플레이리스트 곡 정렬 키 재정렬
+ * 곡 이동으로 이웃 키 간격이 좁아진 플레이리스트를 모아 두었다가 1분마다 GAP 간격으로 다시 매김
+ * 간격이 완전히 없어진 경우에는 이동 요청 안에서 바로 재정렬 (rebalance)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaylistTrackRebalancer {
+
+    private final PlaylistRepository playlistRepository;
+    private final PlaylistTrackRepository playlistTrackRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Long> pendingPlaylistIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 다음 실행 때 재정렬할 플레이리스트로 등록
+     */
+    public void request(Long playlistId) {
+        pendingPlaylistIds.add(playlistId);
+    }
+
+    /**
+     * 호출자 트랜잭션 안에서 바로 재정렬
+     *
+     * @return 마지막 곡의 정렬 키 (곡이 없으면 null)
+     */
+    public Long rebalance(Long playlistId) {
+        pendingPlaylistIds.remove(playlistId);
+        // 곡 추가와 겹치지 않도록 플레이리스트 행 잠금 (이미 잠근 트랜잭션이면 같은 엔티티를 그대로 받음)
+        Playlist playlist = playlistRepository.findByIdForUpdate(playlistId).orElse(null);
+        if (playlist == null) {
+            // 등록 후 삭제된 플레이리스트
+            return null;
+        }
+        Long lastSortKey = playlistTrackRepository.renumberSortKeys(playlistId);
+        // 벌크 UPDATE로 쓰면 영속 상태의 Playlist가 이전 값을 다시 저장하므로 엔티티에 반영
+        playlist.sortKeysRenumbered(lastSortKey);
+        log.info("플레이리스트 곡 정렬 키 재정렬 - playlistId: {}", playlistId);
+        return lastSortKey;
+    }
+
+    @Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void rebalancePending() {
+        List<Long> playlistIds = new ArrayList<>(pendingPlaylistIds);
+        for (Long playlistId : playlistIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebalance(playlistId));
+            } catch (RuntimeException e) {
+                // 동시에 곡이 이동된 경우 등 - 다음 이동 때 다시 등록됨
+                log.warn("⚠️ 플레이리스트 곡 정렬 키 재정렬 실패 - playlistId: {}, 원인: {}", playlistId, e.toString());
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.musicBackend.feature.track.domain;
 
+import com.example.musicBackend.global.jpa.FetchBatch;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
@@ -13,11 +16,15 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "tracks")
+@Table(name = "tracks", indexes = @Index(name = "idx_tracks_cached_at", columnList = "cached_at, id"))
+@EntityListeners(TrackEntityListener.class)
+@BatchSize(size = FetchBatch.SIZE) // 곡 정보 없이 불러온 곡 목록의 곡 프록시를 IN 쿼리로 묶어서 초기화
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +57,33 @@ public class Track {
 
     private String primaryGenreName;
 
+    /**
+     * iTunes에서 다시 받은 메타데이터로 갱신 (trackId 제외)
+     *
+     * @return 바뀐 필드가 있으면 true
+     */
+    public boolean refreshFrom(Track latest) {
+        boolean changed = !Objects.equals(title, latest.title)
+                || !Objects.equals(artist, latest.artist)
+                || !Objects.equals(album, latest.album)
+                || !Objects.equals(durationMs, latest.durationMs)
+                || !Objects.equals(albumCoverUrl, latest.albumCoverUrl)
+                || !Objects.equals(releaseDate, latest.releaseDate)
+                || !Objects.equals(previewUrl, latest.previewUrl)
+                || !Objects.equals(primaryGenreName, latest.primaryGenreName);
+        if (changed) {
+            title = latest.title;
+            artist = latest.artist;
+            album = latest.album;
+            durationMs = latest.durationMs;
+            albumCoverUrl = latest.albumCoverUrl;
+            releaseDate = latest.releaseDate;
+            previewUrl = latest.previewUrl;
+            primaryGenreName = latest.primaryGenreName;
+        }
+        return changed;
+    }
+
     @PrePersist
     protected void onCreate() {
         cachedAt = LocalDateTime.now();
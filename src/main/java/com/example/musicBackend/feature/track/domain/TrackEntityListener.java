@@ -0,0 +1,30 @@
+package com.example.musicBackend.feature.track.domain;
+
+import com.example.musicBackend.feature.track.event.TrackDeletedEvent;
+import com.example.musicBackend.feature.track.event.TrackSavedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Track 저장/삭제 시 이벤트 발행 (검색 인덱스 등 인메모리 구조 갱신용)
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 생성자 주입 가능
+ */
+@RequiredArgsConstructor
+public class TrackEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Track track) {
+        eventPublisher.publishEvent(new TrackSavedEvent(track));
+    }
+
+    @PostRemove
+    public void onRemoved(Track track) {
+        eventPublisher.publishEvent(new TrackDeletedEvent(track.getTrackId()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.musicBackend.feature.track.dto;
 
+import com.example.musicBackend.feature.track.domain.Track;
+
 public record TrackSearchResponseDto(
         String trackId,
         String title,
@@ -11,4 +13,17 @@ public record TrackSearchResponseDto(
         String previewUrl,
         String primaryGenreName
 ) {
+    public static TrackSearchResponseDto from(Track track) {
+        return new TrackSearchResponseDto(
+                String.valueOf(track.getTrackId()),
+                track.getTitle(),
+                track.getArtist(),
+                track.getAlbum(),
+                track.getDurationMs() != null ? track.getDurationMs() : 0,
+                track.getAlbumCoverUrl(),
+                track.getReleaseDate(),
+                track.getPreviewUrl(),
+                track.getPrimaryGenreName()
+        );
+    }
 }
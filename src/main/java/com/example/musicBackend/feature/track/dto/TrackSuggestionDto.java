@@ -0,0 +1,13 @@
+package com.example.musicBackend.feature.track.dto;
+
+/**
+ * 검색어 자동완성 항목
+ * type: TITLE(곡 제목, trackId/artist 포함) 또는 ARTIST(아티스트 이름)
+ */
+public record TrackSuggestionDto(
+        String text,
+        String type,
+        String trackId,
+        String artist
+) {
+}
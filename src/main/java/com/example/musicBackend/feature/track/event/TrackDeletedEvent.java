@@ -0,0 +1,7 @@
+package com.example.musicBackend.feature.track.event;
+
+/**
+ * 곡이 삭제됨
+ */
+public record TrackDeletedEvent(Long trackId) {
+}
@@ -0,0 +1,9 @@
+package com.example.musicBackend.feature.track.event;
+
+import com.example.musicBackend.feature.track.domain.Track;
+
+/**
+ * 곡이 저장(추가/수정)됨
+ */
+public record TrackSavedEvent(Track track) {
+}
@@ -1,12 +1,42 @@
 package com.example.musicBackend.feature.track.repository;
 
 import com.example.musicBackend.feature.track.domain.Track;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TrackRepository extends JpaRepository<Track, Long> {
     Optional<Track> findByTrackId(Long trackId);
+
+    List<Track> findByTrackIdIn(Collection<Long> trackIds);
+
+    /**
+     * cutoff 이전에 캐시된 곡을 (cachedAt, id) 순으로 커서 다음부터 조회 (메타데이터 갱신 대상)
+     */
+    @Query("SELECT t FROM Track t " +
+            "WHERE t.cachedAt < :cutoff " +
+            "AND (t.cachedAt > :afterCachedAt OR (t.cachedAt = :afterCachedAt AND t.id > :afterId)) " +
+            "ORDER BY t.cachedAt ASC, t.id ASC")
+    List<Track> findStaleAfter(
+            @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterCachedAt") LocalDateTime afterCachedAt,
+            @Param("afterId") Long afterId,
+            Limit limit
+    );
+
+    /**
+     * 변경 사항이 없는 곡은 cachedAt만 갱신
+     */
+    @Modifying
+    @Query("UPDATE Track t SET t.cachedAt = :cachedAt WHERE t.id IN :ids")
+    int touchCachedAt(@Param("ids") Collection<Long> ids, @Param("cachedAt") LocalDateTime cachedAt);
 }
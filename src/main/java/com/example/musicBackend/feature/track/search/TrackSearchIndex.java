@@ -0,0 +1,277 @@
+package com.example.musicBackend.feature.track.search;
+
+import com.example.musicBackend.feature.track.domain.Track;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import com.example.musicBackend.feature.track.event.TrackDeletedEvent;
+import com.example.musicBackend.feature.track.event.TrackSavedEvent;
+import com.example.musicBackend.feature.track.repository.TrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * tracks 테이블 전체에 대한 인메모리 역색인 (제목/아티스트/앨범/장르)
+ * 검색어의 모든 토큰을 포함하는 곡만 반환 (토큰 단위 접두사 일치, 한글은 부분 일치)
+ * 시작 시 DB에서 전체를 다시 만들고, 이후에는 곡 저장/삭제 이벤트로 증분 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackSearchIndex {
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    // 점수 높은 순, 같으면 제목순
+    private static final Comparator<ScoredTrack> RANKING = Comparator.comparingInt(ScoredTrack::score).reversed()
+            .thenComparing(scored -> scored.document().title());
+
+    private final TrackRepository trackRepository;
+
+    // trackId(iTunes) → 색인된 곡
+    private final Map<Long, IndexedTrack> documents = new ConcurrentHashMap<>();
+
+    // 색인어 → trackId 목록
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 재구성 중에 들어온 곡 저장/삭제 (재구성이 끝나면 다시 적용, 재구성 중이 아니면 null) - this로 동기화
+    private List<Runnable> changesDuringRebuild;
+
+    /**
+     * 색인된 곡 (응답 DTO + 점수 계산/검증용 정규화 텍스트)
+     */
+    private record IndexedTrack(TrackSearchResponseDto track, String title, String artist, String text,
+                                Set<String> terms) {
+    }
+
+    private record ScoredTrack(IndexedTrack document, int score) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB 전체로 인덱스 재구성
+     * 페이지를 읽은 뒤 색인하기 전에 커밋된 저장/삭제가 예전 행으로 덮이지 않도록,
+     * 재구성 중의 변경은 바로 반영하면서 따로 모아 두었다가 마지막에 다시 적용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (this) {
+            documents.clear();
+            postings.clear();
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            Page<Track> page;
+            int pageNumber = 0;
+            do {
+                page = trackRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+                page.forEach(this::index);
+            } while (page.hasNext());
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild.forEach(Runnable::run);
+                changesDuringRebuild = null;
+            }
+        }
+
+        log.info("🔎 곡 검색 인덱스 구성 완료 - 곡 수: {}, 색인어 수: {}, 소요: {}ms",
+                documents.size(), postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 저장이 커밋된 곡만 반영 (트랜잭션 밖에서 저장된 경우 바로 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrackSaved(TrackSavedEvent event) {
+        Track track = event.track();
+        apply(() -> index(track));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrackDeleted(TrackDeletedEvent event) {
+        Long trackId = event.trackId();
+        apply(() -> remove(trackId));
+    }
+
+    private synchronized void apply(Runnable change) {
+        change.run();
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 곡 추가/갱신 (이미 있으면 기존 색인어 중 빠진 것은 제거)
+     */
+    public synchronized void index(Track track) {
+        if (track.getTrackId() == null) {
+            return;
+        }
+        String title = TrackTokenizer.normalize(track.getTitle());
+        String artist = TrackTokenizer.normalize(track.getArtist());
+        String text = String.join(" ", title, artist,
+                TrackTokenizer.normalize(track.getAlbum()),
+                TrackTokenizer.normalize(track.getPrimaryGenreName()));
+        Set<String> terms = TrackTokenizer.indexTerms(text);
+
+        Long trackId = track.getTrackId();
+        IndexedTrack previous = documents.put(trackId,
+                new IndexedTrack(TrackSearchResponseDto.from(track), title, artist, text, terms));
+
+        if (previous != null) {
+            for (String term : previous.terms()) {
+                if (!terms.contains(term)) {
+                    removePosting(term, trackId);
+                }
+            }
+        }
+        for (String term : terms) {
+            postings.compute(term, (key, ids) -> {
+                Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                target.add(trackId);
+                return target;
+            });
+        }
+    }
+
+    public synchronized void remove(Long trackId) {
+        IndexedTrack previous = documents.remove(trackId);
+        if (previous != null) {
+            previous.terms().forEach(term -> removePosting(term, trackId));
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰과 일치하는 곡을 점수순으로 반환
+     * 점수: 제목 완전/접두/부분 일치 > 아티스트 일치 > 토큰별 제목 일치
+     */
+    public List<TrackSearchResponseDto> search(String query, int limit) {
+        String normalizedQuery = TrackTokenizer.normalize(query).strip();
+        List<String> tokens = TrackTokenizer.tokenize(normalizedQuery);
+        if (tokens.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // 후보가 적은 토큰부터 교집합
+        List<Set<Long>> matches = new ArrayList<>();
+        for (String token : new HashSet<>(tokens)) {
+            Set<Long> match = match(token);
+            if (match.isEmpty()) {
+                return Collections.emptyList();
+            }
+            matches.add(match);
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(matches.get(0));
+        for (int i = 1; i < matches.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(matches.get(i));
+        }
+
+        // 후보는 모두 점수를 매기고 상위 limit개만 보관 (가장 낮은 순위가 맨 앞인 힙)
+        PriorityQueue<ScoredTrack> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (Long trackId : candidates) {
+            IndexedTrack document = documents.get(trackId);
+            if (document == null) {
+                continue;
+            }
+            top.offer(new ScoredTrack(document, score(document, normalizedQuery, tokens)));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        return top.stream()
+                .sorted(RANKING)
+                .map(scored -> scored.document().track())
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 토큰 하나와 일치하는 곡
+     * 색인어에 없으면: 긴 토큰은 접두사로, 한글 등은 2-gram 교집합으로 후보를 찾은 뒤 원문 포함 여부로 확인
+     */
+    private Set<Long> match(String token) {
+        if (token.length() <= TrackTokenizer.MAX_PREFIX_LENGTH) {
+            Set<Long> exact = postings.get(token);
+            if (exact != null) {
+                return exact;
+            }
+        }
+
+        Set<Long> candidates;
+        if (token.length() > TrackTokenizer.MAX_PREFIX_LENGTH) {
+            candidates = postings.getOrDefault(token.substring(0, TrackTokenizer.MAX_PREFIX_LENGTH), Set.of());
+        } else if (TrackTokenizer.isCjk(token) && token.length() > 2) {
+            candidates = null;
+            for (String bigram : TrackTokenizer.bigrams(token)) {
+                Set<Long> ids = postings.getOrDefault(bigram, Set.of());
+                if (candidates == null) {
+                    candidates = new HashSet<>(ids);
+                } else {
+                    candidates.retainAll(ids);
+                }
+                if (candidates.isEmpty()) {
+                    return Set.of();
+                }
+            }
+        } else {
+            return Set.of();
+        }
+
+        return candidates.stream()
+                .filter(trackId -> {
+                    IndexedTrack document = documents.get(trackId);
+                    return document != null && document.text().contains(token);
+                })
+                .collect(Collectors.toSet());
+    }
+
+    private int score(IndexedTrack document, String normalizedQuery, List<String> tokens) {
+        int score = 0;
+        if (document.title().equals(normalizedQuery)) {
+            score += 100;
+        } else if (document.title().startsWith(normalizedQuery)) {
+            score += 50;
+        } else if (document.title().contains(normalizedQuery)) {
+            score += 20;
+        }
+        if (document.artist().contains(normalizedQuery)) {
+            score += 10;
+        }
+        for (String token : tokens) {
+            if (document.title().contains(token)) {
+                score += 2;
+            }
+        }
+        return score;
+    }
+
+    private void removePosting(String term, Long trackId) {
+        postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(trackId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
@@ -0,0 +1,461 @@
+package com.example.musicBackend.feature.track.search;
+
+import com.example.musicBackend.feature.playlist.dto.TrackPlaylistCount;
+import com.example.musicBackend.feature.playlist.event.PlaylistTracksChangedEvent;
+import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
+import com.example.musicBackend.feature.track.domain.Track;
+import com.example.musicBackend.feature.track.dto.TrackSuggestionDto;
+import com.example.musicBackend.feature.track.event.TrackDeletedEvent;
+import com.example.musicBackend.feature.track.event.TrackSavedEvent;
+import com.example.musicBackend.feature.track.repository.TrackRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 검색창 자동완성용 인메모리 접두사 트라이 (곡 제목 + 아티스트 이름)
+ * 노드마다 플레이리스트에 많이 담긴 순서로 상위 MAX_SUGGESTIONS개를 미리 저장해 두어 조회 시 접두사 길이만큼만 탐색
+ * DB 전체로 구성하는 것은 시작 시 한 번뿐이고, 이후에는 이벤트로 바뀐 곡의 경로만 갱신
+ * - 곡 저장/삭제: TrackSavedEvent / TrackDeletedEvent
+ * - 인기도(담긴 플레이리스트 수): PlaylistTracksChangedEvent (바뀐 곡만 다시 집계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    // 이보다 긴 접두사는 이 깊이의 노드 후보를 원문으로 다시 걸러냄 (노드 수 제한)
+    private static final int MAX_DEPTH = 15;
+
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::normalizedText);
+
+    private final TrackRepository trackRepository;
+    private final PlaylistTrackRepository playlistTrackRepository;
+
+    // 읽기는 잠금 없이, 변경은 this로 동기화
+    private volatile SuggestState state = new SuggestState(false);
+
+    // 재구성 중에 들어온 변경 (새 상태로 교체할 때 다시 적용, 재구성 중이 아니면 null) - this로 동기화
+    private List<Consumer<SuggestState>> changesDuringRebuild;
+
+    /**
+     * 자동완성 항목 (key: 중복 제거용 - 곡은 trackId, 아티스트는 정규화된 이름)
+     */
+    private record Entry(String key, TrackSuggestionDto suggestion, String normalizedText, long score) {
+    }
+
+    /**
+     * 색인된 곡 (id: Track.id, trackId: iTunes trackId)
+     */
+    private record IndexedTrack(Long id, Long trackId, String title, String artist, String normalizedTitle,
+                                String normalizedArtist) {
+    }
+
+    /**
+     * 아티스트별 곡 수와 점수 합 (곡 수가 0이 되면 항목 제거)
+     */
+    private static final class ArtistStats {
+        private final String name;
+        private int trackCount;
+        private long score;
+
+        ArtistStats(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * 시작 시 DB 전체로 새 상태를 만들어 교체
+     * 구성 중에 들어온 변경은 현재 상태에 바로 반영하면서 따로 모아 두었다가 새 상태에도 다시 적용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (this) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            SuggestState next = new SuggestState(true);
+            playlistTrackRepository.countPlaylistsByTrack()
+                    .forEach(count -> next.playlistCounts.put(count.trackId(), count.playlistCount()));
+
+            Page<Track> page;
+            int pageNumber = 0;
+            do {
+                page = trackRepository.findAll(PageRequest.of(pageNumber++, REBUILD_PAGE_SIZE, Sort.by("id")));
+                page.forEach(next::putTrack);
+            } while (page.hasNext());
+            next.finishBulk();
+
+            synchronized (this) {
+                changesDuringRebuild.forEach(change -> change.accept(next));
+                state = next;
+            }
+            log.info("💡 자동완성 인덱스 구성 완료 - 곡 수: {}, 아티스트 수: {}, 노드 수: {}, 소요: {}ms",
+                    next.tracks.size(), next.artists.size(), next.trie.nodeCount, System.currentTimeMillis() - startedAt);
+        } finally {
+            synchronized (this) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    /**
+     * 저장이 커밋된 곡을 추가 (이미 있으면 제목/아티스트가 바뀌었을 수 있으므로 다시 등록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrackSaved(TrackSavedEvent event) {
+        add(event.track());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrackDeleted(TrackDeletedEvent event) {
+        Long trackId = event.trackId();
+        apply(current -> current.removeByTrackId(trackId));
+    }
+
+    /**
+     * 플레이리스트에 곡이 추가/제거된 뒤 해당 곡들의 플레이리스트 수만 다시 집계해서 반영
+     * 증감 대신 잠금 안에서 조회한 현재 값으로 덮어쓰므로 이벤트 순서가 뒤바뀌거나 재구성과 겹쳐도 어긋나지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlaylistTracksChanged(PlaylistTracksChangedEvent event) {
+        List<Long> trackIds = List.copyOf(event.trackIds());
+        if (trackIds.isEmpty()) {
+            return;
+        }
+        apply(current -> {
+            Map<Long, Long> counts = playlistTrackRepository.countPlaylistsByTrackIds(trackIds).stream()
+                    .collect(Collectors.toMap(TrackPlaylistCount::trackId, TrackPlaylistCount::playlistCount));
+            trackIds.forEach(id -> current.setPlaylistCount(id, counts.getOrDefault(id, 0L)));
+        });
+    }
+
+    public void add(Track track) {
+        apply(current -> current.putTrack(track));
+    }
+
+    private synchronized void apply(Consumer<SuggestState> change) {
+        change.accept(state);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 제목/아티스트 (제목 중간 단어로 시작해도 일치), 플레이리스트에 많이 담긴 순
+     */
+    public List<TrackSuggestionDto> suggest(String prefix, int limit) {
+        String normalizedPrefix = TrackTokenizer.normalize(prefix).strip();
+        if (normalizedPrefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Entry[] candidates = state.trie.find(normalizedPrefix);
+        List<TrackSuggestionDto> suggestions = new ArrayList<>(Math.min(limit, candidates.length));
+        for (Entry candidate : candidates) {
+            if (suggestions.size() >= limit) {
+                break;
+            }
+            if (normalizedPrefix.length() <= MAX_DEPTH || candidate.normalizedText().contains(normalizedPrefix)) {
+                suggestions.add(candidate.suggestion());
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * 곡/아티스트/인기도와 트라이 (변경은 TrackSuggestIndex 잠금 또는 재구성 중인 단일 스레드에서만)
+     */
+    private static final class SuggestState {
+
+        private final Trie trie;
+
+        // Track.id → 색인된 곡
+        private final Map<Long, IndexedTrack> tracks = new HashMap<>();
+
+        // iTunes trackId → Track.id (삭제 이벤트용)
+        private final Map<Long, Long> idsByTrackId = new HashMap<>();
+
+        // Track.id → 담긴 플레이리스트 수
+        private final Map<Long, Long> playlistCounts = new HashMap<>();
+
+        // 정규화된 아티스트 이름 → 곡 수/점수
+        private final Map<String, ArtistStats> artists = new HashMap<>();
+
+        SuggestState(boolean bulk) {
+            this.trie = new Trie(bulk);
+        }
+
+        void finishBulk() {
+            trie.finishBulk();
+        }
+
+        void putTrack(Track track) {
+            removeTrack(track.getId());
+
+            IndexedTrack indexed = new IndexedTrack(track.getId(), track.getTrackId(), track.getTitle(),
+                    track.getArtist(), TrackTokenizer.normalize(track.getTitle()).strip(),
+                    TrackTokenizer.normalize(track.getArtist()).strip());
+            tracks.put(indexed.id(), indexed);
+            if (indexed.trackId() != null) {
+                idsByTrackId.put(indexed.trackId(), indexed.id());
+            }
+
+            long score = playlistCounts.getOrDefault(indexed.id(), 0L);
+            putTitle(indexed, score);
+            if (!indexed.normalizedArtist().isEmpty()) {
+                ArtistStats stats = artists.computeIfAbsent(indexed.normalizedArtist(),
+                        key -> new ArtistStats(indexed.artist()));
+                stats.trackCount++;
+                stats.score += score;
+                putArtist(indexed.normalizedArtist(), stats);
+            }
+        }
+
+        void removeByTrackId(Long trackId) {
+            Long id = idsByTrackId.get(trackId);
+            if (id != null) {
+                removeTrack(id);
+            }
+        }
+
+        void removeTrack(Long id) {
+            IndexedTrack indexed = tracks.remove(id);
+            if (indexed == null) {
+                return;
+            }
+            if (indexed.trackId() != null) {
+                idsByTrackId.remove(indexed.trackId(), id);
+                trie.remove(titleKey(indexed), indexed.normalizedTitle());
+            }
+
+            ArtistStats stats = artists.get(indexed.normalizedArtist());
+            if (stats != null) {
+                stats.trackCount--;
+                stats.score -= playlistCounts.getOrDefault(id, 0L);
+                if (stats.trackCount <= 0) {
+                    artists.remove(indexed.normalizedArtist());
+                    trie.remove(artistKey(indexed.normalizedArtist()), indexed.normalizedArtist());
+                } else {
+                    putArtist(indexed.normalizedArtist(), stats);
+                }
+            }
+        }
+
+        void setPlaylistCount(Long id, long count) {
+            Long previous = count > 0 ? playlistCounts.put(id, count) : playlistCounts.remove(id);
+            long delta = count - (previous != null ? previous : 0L);
+            IndexedTrack indexed = tracks.get(id);
+            if (delta == 0 || indexed == null) {
+                return;
+            }
+
+            putTitle(indexed, count);
+            ArtistStats stats = artists.get(indexed.normalizedArtist());
+            if (stats != null) {
+                stats.score += delta;
+                putArtist(indexed.normalizedArtist(), stats);
+            }
+        }
+
+        private void putTitle(IndexedTrack indexed, long score) {
+            if (indexed.trackId() == null || indexed.normalizedTitle().isEmpty()) {
+                return;
+            }
+            trie.put(new Entry(titleKey(indexed),
+                    new TrackSuggestionDto(indexed.title(), "TITLE", String.valueOf(indexed.trackId()), indexed.artist()),
+                    indexed.normalizedTitle(), score));
+        }
+
+        private void putArtist(String normalizedArtist, ArtistStats stats) {
+            trie.put(new Entry(artistKey(normalizedArtist),
+                    new TrackSuggestionDto(stats.name, "ARTIST", null, null), normalizedArtist, stats.score));
+        }
+
+        private static String titleKey(IndexedTrack indexed) {
+            return "T:" + indexed.trackId();
+        }
+
+        private static String artistKey(String normalizedArtist) {
+            return "A:" + normalizedArtist;
+        }
+    }
+
+    /**
+     * 텍스트 전체와 단어 시작 위치마다의 접미사(최대 MAX_DEPTH자)를 키로 등록
+     * 항목은 키가 끝나는 노드의 terminals에 두고, 노드의 top은 자기 terminals와 자식 top의 상위 항목
+     * 항목이 바뀌면 그 키 경로의 노드만 아래에서부터 다시 계산 (자식 top만 보면 되므로 하위 트리를 훑지 않음)
+     * 재구성(bulk) 중에는 terminals만 채우고 finishBulk에서 전체 top을 한 번에 계산
+     */
+    private static final class Trie {
+
+        private final Node root = new Node();
+        private int nodeCount = 1;
+        private boolean bulk;
+
+        Trie(boolean bulk) {
+            this.bulk = bulk;
+        }
+
+        /**
+         * 같은 key의 항목이 있으면 교체
+         */
+        void put(Entry entry) {
+            for (int start : wordStarts(entry.normalizedText())) {
+                List<Node> path = path(entry.normalizedText(), start, true);
+                Node last = path.get(path.size() - 1);
+                if (last.terminals == null) {
+                    last.terminals = new HashMap<>(2);
+                }
+                last.terminals.put(entry.key(), entry);
+                if (!bulk) {
+                    refresh(path);
+                }
+            }
+        }
+
+        void remove(String key, String normalizedText) {
+            for (int start : wordStarts(normalizedText)) {
+                List<Node> path = path(normalizedText, start, false);
+                if (path == null) {
+                    continue;
+                }
+                Node last = path.get(path.size() - 1);
+                if (last.terminals != null && last.terminals.remove(key) != null) {
+                    refresh(path);
+                }
+            }
+        }
+
+        void finishBulk() {
+            computeTop(root);
+            bulk = false;
+        }
+
+        Entry[] find(String normalizedPrefix) {
+            Node node = root;
+            int depth = Math.min(normalizedPrefix.length(), MAX_DEPTH);
+            for (int i = 0; i < depth && node != null; i++) {
+                Map<Character, Node> children = node.children;
+                node = children != null ? children.get(normalizedPrefix.charAt(i)) : null;
+            }
+            return node != null ? node.top : Node.EMPTY;
+        }
+
+        private static List<Integer> wordStarts(String text) {
+            List<Integer> starts = new ArrayList<>();
+            for (int start = 0; start < text.length(); start++) {
+                boolean wordStart = start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+                if (wordStart && Character.isLetterOrDigit(text.charAt(start))) {
+                    starts.add(start);
+                }
+            }
+            return starts;
+        }
+
+        /**
+         * 키 경로의 노드들 (루트 제외, 얕은 것부터) - create가 false면 경로가 없을 때 null
+         */
+        private List<Node> path(String text, int start, boolean create) {
+            int end = Math.min(text.length(), start + MAX_DEPTH);
+            List<Node> path = new ArrayList<>(end - start);
+            Node node = root;
+            for (int i = start; i < end; i++) {
+                node = create ? child(node, text.charAt(i)) : existingChild(node, text.charAt(i));
+                if (node == null) {
+                    return null;
+                }
+                path.add(node);
+            }
+            return path;
+        }
+
+        private Node child(Node node, char c) {
+            if (node.children == null) {
+                node.children = new ConcurrentHashMap<>(4);
+            }
+            Node child = node.children.get(c);
+            if (child == null) {
+                child = new Node();
+                node.children.put(c, child);
+                nodeCount++;
+            }
+            return child;
+        }
+
+        private static Node existingChild(Node node, char c) {
+            Map<Character, Node> children = node.children;
+            return children != null ? children.get(c) : null;
+        }
+
+        private static void refresh(List<Node> path) {
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).top = best(path.get(i));
+            }
+        }
+
+        private static void computeTop(Node node) {
+            if (node.children != null) {
+                node.children.values().forEach(Trie::computeTop);
+            }
+            node.top = best(node);
+        }
+
+        /**
+         * 자기 terminals와 자식들의 top 중 점수순 상위 MAX_SUGGESTIONS개 (같은 key는 하나만)
+         */
+        private static Entry[] best(Node node) {
+            Map<String, Entry> candidates = new HashMap<>();
+            if (node.terminals != null) {
+                candidates.putAll(node.terminals);
+            }
+            if (node.children != null) {
+                for (Node child : node.children.values()) {
+                    for (Entry entry : child.top) {
+                        candidates.putIfAbsent(entry.key(), entry);
+                    }
+                }
+            }
+            return candidates.values().stream()
+                    .sorted(RANKING)
+                    .limit(MAX_SUGGESTIONS)
+                    .toArray(Entry[]::new);
+        }
+    }
+
+    private static final class Node {
+
+        static final Entry[] EMPTY = new Entry[0];
+
+        volatile Map<Character, Node> children;
+
+        // 이 노드에서 키가 끝나는 항목 (잠금 안에서만 접근)
+        Map<String, Entry> terminals;
+
+        // 점수순 상위 항목 (교체 시 새 배열로 바꿔서 읽는 쪽은 잠금 불필요)
+        volatile Entry[] top = EMPTY;
+    }
+}
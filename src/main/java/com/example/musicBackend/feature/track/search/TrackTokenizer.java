@@ -0,0 +1,90 @@
+package com.example.musicBackend.feature.track.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 인덱스용 토크나이저
+ * 유니코드 NFKC + 소문자로 정규화한 뒤 글자/숫자가 아닌 문자를 기준으로 토큰 분리
+ * 색인어: 토큰 접두사(최대 MAX_PREFIX_LENGTH자) + 한글/한자/가나 토큰은 글자 단위 1-gram, 2-gram 추가
+ */
+final class TrackTokenizer {
+
+    static final int MAX_PREFIX_LENGTH = 15;
+
+    private TrackTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 텍스트를 토큰으로 분리
+     */
+    static List<String> tokenize(String normalizedText) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalizedText.length(); i++) {
+            char c = normalizedText.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * 문서(곡)에 대한 색인어 목록
+     */
+    static Set<String> indexTerms(String normalizedText) {
+        Set<String> terms = new HashSet<>();
+        for (String token : tokenize(normalizedText)) {
+            int prefixLength = Math.min(token.length(), MAX_PREFIX_LENGTH);
+            for (int end = 1; end <= prefixLength; end++) {
+                terms.add(token.substring(0, end));
+            }
+            if (isCjk(token)) {
+                // 띄어쓰기 없이 붙은 한글도 중간 부분으로 찾을 수 있도록
+                for (int i = 0; i < token.length(); i++) {
+                    terms.add(token.substring(i, i + 1));
+                    if (i + 2 <= token.length()) {
+                        terms.add(token.substring(i, i + 2));
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    static List<String> bigrams(String token) {
+        List<String> bigrams = new ArrayList<>();
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            bigrams.add(token.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+
+    static boolean isCjk(String token) {
+        return token.chars().anyMatch(c -> {
+            Character.UnicodeScript script = Character.UnicodeScript.of(c);
+            return script == Character.UnicodeScript.HANGUL
+                    || script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA;
+        });
+    }
+}
@@ -1,14 +1,9 @@
 package com.example.musicBackend.global.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.MediaType;
-import org.springframework.http.codec.json.Jackson2JsonDecoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
-import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * 애플리케이션 기본 설정
@@ -24,17 +19,4 @@ public class AppConfig {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
-
-    @Bean
-    public WebClient webClient() {
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
-                .codecs(configurer -> configurer.defaultCodecs().jackson2JsonDecoder(
-                        new Jackson2JsonDecoder(new ObjectMapper(), new MediaType("text", "javascript"))
-                ))
-                .build();
-
-        return WebClient.builder()
-                .exchangeStrategies(strategies)
-                .build();
-    }
 }
@@ -0,0 +1,12 @@
+package com.example.musicBackend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업 스케줄링 설정 (spring.task.scheduling.* 으로 스레드 수 조정)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.example.musicBackend.global.config;
 
+import com.example.musicBackend.external.itunes.controller.ItunesController;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -24,6 +25,7 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(ItunesController.DEGRADED_HEADER)
                 .allowCredentials(true);
     }
 }
@@ -0,0 +1,13 @@
+package com.example.musicBackend.global.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회 (마지막 페이지면 null)
+ */
+public record CursorPageResponseDto<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
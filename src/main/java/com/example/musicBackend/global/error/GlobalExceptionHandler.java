@@ -1,5 +1,8 @@
 package com.example.musicBackend.global.error;
 
+import com.example.musicBackend.external.itunes.ratelimit.ItunesRateLimitException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -34,4 +37,16 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ErrorResponse.of("IllegalArgumentException", e.getMessage()));
     }
+
+    /**
+     * 외부 API(iTunes) 일시 사용 불가 (503 Service Unavailable)
+     * 서킷 브레이커 open, 동시 호출 한도 초과 또는 호출 속도 제한
+     */
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class, ItunesRateLimitException.class})
+    public ResponseEntity<ErrorResponse> handleUpstreamUnavailable(RuntimeException e) {
+        log.warn("외부 API 일시 사용 불가: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(e.getClass().getSimpleName(), e.getMessage()));
+    }
 }
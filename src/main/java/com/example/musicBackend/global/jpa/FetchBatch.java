@@ -0,0 +1,12 @@
+package com.example.musicBackend.global.jpa;
+
+/**
+ * 지연 로딩 대상을 IN 쿼리 한 번에 불러올 때의 묶음 크기 (@BatchSize 공통 값)
+ */
+public final class FetchBatch {
+
+    public static final int SIZE = 100;
+
+    private FetchBatch() {
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.musicBackend;
 
+import com.example.musicBackend.external.itunes.fake.FakeItunesServer;
 import com.example.musicBackend.feature.playlist.domain.Visibility;
 import com.example.musicBackend.feature.playlist.dto.AddTrackRequestDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistRequestDto;
 import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
 import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
 import com.example.musicBackend.feature.user.dto.AuthResponseDto;
 import com.example.musicBackend.feature.user.dto.LoginRequestDto;
@@ -21,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -29,12 +33,14 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -42,7 +48,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 테스트 시나리오:
  * 1. 회원가입
  * 2. 로그인
- * 3. 노래 검색 (iTunes API)
+ * 3. 노래 검색 (iTunes API - 로컬 대체 서버 FakeItunesServer)
  * 4. 플레이리스트 생성
  * 5. 플레이리스트에 곡 3개 추가
  * 6. 첫 번째 곡을 마지막으로 순서 변경
@@ -65,6 +71,8 @@ class FlowIntegrationTest {
     private static final String TEST_EMAIL = "e2e-test-" + UUID.randomUUID() + "@example.com";
     private static final String TEST_EMAIL_2 = "e2e-test-2-" + UUID.randomUUID() + "@example.com"; // For permission test
 
+    private static FakeItunesServer itunesServer;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -81,6 +89,13 @@ class FlowIntegrationTest {
     private static List<Long> trackIdsToAdd = new ArrayList<>();
     private static List<Long> createdTrackIds = new ArrayList<>();
 
+    @DynamicPropertySource
+    static void itunesProperties(DynamicPropertyRegistry registry) {
+        itunesServer = FakeItunesServer.start(new FakeItunesServer.Options().catalogSize(5_000));
+        registry.add("itunes.search.url", itunesServer::searchUrl);
+        registry.add("itunes.lookup.url", itunesServer::lookupUrl);
+    }
+
     @Test
     @Order(1)
     @DisplayName("Step 1: 회원가입 성공")
@@ -141,9 +156,13 @@ class FlowIntegrationTest {
         // given
         String searchQuery = "BTS";
 
-        // when & then
-        MvcResult result = mockMvc.perform(get("/api/itunes/search")
+        // when & then - 검색은 비동기 응답이므로 asyncDispatch로 결과 확인
+        MvcResult asyncResult = mockMvc.perform(get("/api/itunes/search")
                         .param("query", searchQuery))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray())
@@ -384,9 +403,9 @@ class FlowIntegrationTest {
 
         // 내 플레이리스트가 목록에 포함되어 있는지 확인
         String responseBody = result.getResponse().getContentAsString();
-        List<PlaylistResponseDto> playlists = objectMapper.readValue(
+        List<PlaylistSummaryResponseDto> playlists = objectMapper.readValue(
                 responseBody,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistResponseDto.class)
+                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistSummaryResponseDto.class)
         );
 
         boolean myPlaylistExists = playlists.stream()
@@ -436,9 +455,9 @@ class FlowIntegrationTest {
 
         // 내 플레이리스트가 목록에 없어야 함
         String responseBody = result.getResponse().getContentAsString();
-        List<PlaylistResponseDto> playlists = objectMapper.readValue(
+        List<PlaylistSummaryResponseDto> playlists = objectMapper.readValue(
                 responseBody,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistResponseDto.class)
+                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistSummaryResponseDto.class)
         );
 
         boolean myPlaylistExists = playlists.stream()
@@ -461,9 +480,9 @@ class FlowIntegrationTest {
 
         // 비공개로 전환한 내 플레이리스트가 목록에 포함되어 있는지 확인
         String responseBody = result.getResponse().getContentAsString();
-        List<PlaylistResponseDto> playlists = objectMapper.readValue(
+        List<PlaylistSummaryResponseDto> playlists = objectMapper.readValue(
                 responseBody,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistResponseDto.class)
+                objectMapper.getTypeFactory().constructCollectionType(List.class, PlaylistSummaryResponseDto.class)
         );
 
         boolean myPlaylistExists = playlists.stream()
@@ -521,5 +540,6 @@ class FlowIntegrationTest {
     void cleanupUser() {
         userRepository.findByEmail(TEST_EMAIL).ifPresent(userRepository::delete);
         userRepository.findByEmail(TEST_EMAIL_2).ifPresent(userRepository::delete);
+        itunesServer.close();
     }
 }
@@ -0,0 +1,499 @@
+package com.example.musicBackend.external.itunes.fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 로컬 iTunes 대체 서버 (/search, /lookup)
+ * 시드로 생성한 곡 카탈로그(기본 5만 곡)를 iTunes와 같은 형식(text/javascript JSON)으로 응답
+ * 엔드포인트별 지연 분포, 오류 비율, 초당 요청 수 초과 시 스로틀링 응답을 설정할 수 있음
+ * 검색 응답은 곡마다 나눠서 천천히 보낼 수 있음 (클라이언트가 중간에 연결을 끊는지 확인용)
+ *
+ * 테스트에서 사용:
+ * <pre>
+ * FakeItunesServer server = FakeItunesServer.start(new FakeItunesServer.Options().lookupLatency(Latency.fixed(...)));
+ * registry.add("itunes.search.url", server::searchUrl);
+ * registry.add("itunes.lookup.url", server::lookupUrl);
+ * </pre>
+ * 단독 실행 (부하 테스트용): main [port] [catalogSize] 후 출력되는 ITUNES_SEARCH_URL/ITUNES_LOOKUP_URL로 앱 실행
+ */
+public class FakeItunesServer implements AutoCloseable {
+
+    private static final String[] ARTISTS = {
+            "BTS", "IU", "NewJeans", "aespa", "BLACKPINK", "SEVENTEEN", "LE SSERAFIM", "아이유", "볼빨간사춘기",
+            "잔나비", "악동뮤지션", "Coldplay", "Taylor Swift", "Ed Sheeran", "The Weeknd", "Billie Eilish",
+            "Bruno Mars", "Adele", "Dua Lipa", "Imagine Dragons"
+    };
+    private static final String[] TITLE_WORDS = {
+            "사랑", "밤", "봄날", "우리", "너의", "하루", "별", "바다", "기억", "여름", "눈물", "시간", "Love", "Night",
+            "Dream", "Blue", "Light", "Summer", "Butter", "Dynamite", "Fire", "Heart", "Run", "Stay", "Forever",
+            "Dance", "Moon", "Sky", "Home", "Again"
+    };
+    private static final String JSON_FOOTER = "]\n}\n";
+
+    private static final String[] GENRES = {"K-Pop", "Pop", "Rock", "Hip-Hop/Rap", "R&B/Soul", "Dance", "Ballad", "Indie"};
+
+    private final Options options;
+    private final List<CatalogTrack> catalog;
+    private final Map<Long, CatalogTrack> catalogById;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicInteger searchRequests = new AtomicInteger();
+    private final AtomicInteger lookupRequests = new AtomicInteger();
+    private final AtomicInteger throttledRequests = new AtomicInteger();
+    private final AtomicInteger abortedResponses = new AtomicInteger();
+
+    // 초당 요청 수 (스로틀링 판단용)
+    private final AtomicLong windowStartMillis = new AtomicLong(System.currentTimeMillis());
+    private final AtomicInteger windowRequests = new AtomicInteger();
+
+    /**
+     * 응답 지연 분포
+     */
+    @FunctionalInterface
+    public interface Latency {
+        long sampleMillis(Random random);
+
+        static Latency none() {
+            return random -> 0;
+        }
+
+        static Latency fixed(Duration delay) {
+            return random -> delay.toMillis();
+        }
+
+        static Latency uniform(Duration min, Duration max) {
+            return random -> min.toMillis() + (long) (random.nextDouble() * (max.toMillis() - min.toMillis()));
+        }
+
+        /**
+         * 로그 정규 분포 (실제 API처럼 대부분 빠르고 일부가 길게 늘어지는 꼬리 지연)
+         *
+         * @param median 중앙값
+         * @param sigma  꼬리 두께 (0.5면 p99 ≈ 중앙값의 3.2배)
+         */
+        static Latency logNormal(Duration median, double sigma) {
+            return random -> (long) (median.toMillis() * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    /**
+     * 서버 설정
+     */
+    public static class Options {
+        private int port = 0;
+        private int catalogSize = 50_000;
+        private long seed = 42L;
+        private long trackIdBase = 1_000_000_000L;
+        private Latency searchLatency = Latency.none();
+        private Latency lookupLatency = Latency.none();
+        private double errorRate = 0.0;
+        private int maxRequestsPerSecond = 0;
+        private int throttleStatus = 403;
+        private Duration searchChunkDelay = Duration.ZERO;
+
+        public Options port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Options catalogSize(int catalogSize) {
+            this.catalogSize = catalogSize;
+            return this;
+        }
+
+        /**
+         * 카탈로그 생성 시드 (같은 시드면 같은 곡 목록)
+         */
+        public Options seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * 첫 곡의 trackId (이후 1씩 증가)
+         */
+        public Options trackIdBase(long trackIdBase) {
+            this.trackIdBase = trackIdBase;
+            return this;
+        }
+
+        public Options searchLatency(Latency searchLatency) {
+            this.searchLatency = searchLatency;
+            return this;
+        }
+
+        public Options lookupLatency(Latency lookupLatency) {
+            this.lookupLatency = lookupLatency;
+            return this;
+        }
+
+        /**
+         * 500 응답 비율 (0.0 ~ 1.0)
+         */
+        public Options errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * 초당 요청 수가 이 값을 넘으면 throttleStatus로 응답 (0이면 제한 없음)
+         */
+        public Options throttle(int maxRequestsPerSecond, int throttleStatus) {
+            this.maxRequestsPerSecond = maxRequestsPerSecond;
+            this.throttleStatus = throttleStatus;
+            return this;
+        }
+
+        /**
+         * 검색 응답을 곡마다 나눠서 이 간격으로 보냄 (0이면 한 번에)
+         */
+        public Options searchChunkDelay(Duration searchChunkDelay) {
+            this.searchChunkDelay = searchChunkDelay;
+            return this;
+        }
+    }
+
+    /**
+     * 카탈로그의 곡 (iTunes 응답 필드)
+     */
+    public record CatalogTrack(long trackId, long collectionId, long artistId, String trackName, String artistName,
+                               String collectionName, long trackTimeMillis, String releaseDate,
+                               String primaryGenreName, String searchText) {
+    }
+
+    private FakeItunesServer(Options options) throws IOException {
+        this.options = options;
+        this.catalog = generateCatalog(options);
+        this.catalogById = new HashMap<>();
+        catalog.forEach(track -> catalogById.put(track.trackId(), track));
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", options.port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fake-itunes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/search", exchange -> handle(exchange, options.searchLatency, searchRequests, this::search,
+                options.searchChunkDelay));
+        server.createContext("/lookup", exchange -> handle(exchange, options.lookupLatency, lookupRequests, this::lookup,
+                Duration.ZERO));
+        server.start();
+    }
+
+    public static FakeItunesServer start(Options options) {
+        try {
+            return new FakeItunesServer(options);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static FakeItunesServer start() {
+        return start(new Options());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String searchUrl() {
+        return baseUrl() + "/search";
+    }
+
+    public String lookupUrl() {
+        return baseUrl() + "/lookup";
+    }
+
+    public int searchRequests() {
+        return searchRequests.get();
+    }
+
+    public int lookupRequests() {
+        return lookupRequests.get();
+    }
+
+    public int throttledRequests() {
+        return throttledRequests.get();
+    }
+
+    /**
+     * 나눠 보내는 도중 클라이언트가 연결을 끊은 응답 수
+     */
+    public int abortedResponses() {
+        return abortedResponses.get();
+    }
+
+    public List<CatalogTrack> catalog() {
+        return catalog;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange, Latency latency, AtomicInteger counter,
+                        Function<Map<String, String>, List<CatalogTrack>> endpoint, Duration chunkDelay)
+            throws IOException {
+        try {
+            counter.incrementAndGet();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            if (isThrottled()) {
+                throttledRequests.incrementAndGet();
+                send(exchange, options.throttleStatus, "{\"errorMessage\":\"Too many requests\"}");
+                return;
+            }
+
+            sleep(latency.sampleMillis(random));
+
+            if (options.errorRate > 0 && random.nextDouble() < options.errorRate) {
+                send(exchange, 500, "{\"errorMessage\":\"Internal Server Error\"}");
+                return;
+            }
+
+            List<CatalogTrack> results = endpoint.apply(queryParams(exchange.getRequestURI().getRawQuery()));
+            if (chunkDelay.isZero()) {
+                send(exchange, 200, toJson(results));
+            } else {
+                sendChunked(exchange, results, chunkDelay);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private List<CatalogTrack> search(Map<String, String> params) {
+        String term = params.getOrDefault("term", "").toLowerCase(Locale.ROOT).strip();
+        int limit = Math.min(parseInt(params.get("limit"), 50), 200);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        String[] words = term.split("\\s+");
+        List<CatalogTrack> results = new ArrayList<>();
+        for (CatalogTrack track : catalog) {
+            boolean matches = true;
+            for (String word : words) {
+                if (!track.searchText().contains(word)) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                results.add(track);
+                if (results.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return results;
+    }
+
+    private List<CatalogTrack> lookup(Map<String, String> params) {
+        List<CatalogTrack> results = new ArrayList<>();
+        for (String id : params.getOrDefault("id", "").split(",")) {
+            try {
+                CatalogTrack track = catalogById.get(Long.parseLong(id.strip()));
+                if (track != null) {
+                    results.add(track);
+                }
+            } catch (NumberFormatException e) {
+                // 잘못된 id는 iTunes처럼 무시
+            }
+        }
+        return results;
+    }
+
+    private boolean isThrottled() {
+        if (options.maxRequestsPerSecond <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long windowStart = windowStartMillis.get();
+        if (now - windowStart >= 1_000 && windowStartMillis.compareAndSet(windowStart, now)) {
+            windowRequests.set(0);
+        }
+        return windowRequests.incrementAndGet() > options.maxRequestsPerSecond;
+    }
+
+    private static List<CatalogTrack> generateCatalog(Options options) {
+        Random random = new Random(options.seed);
+        List<CatalogTrack> catalog = new ArrayList<>(options.catalogSize);
+        for (int i = 0; i < options.catalogSize; i++) {
+            int artistIndex = random.nextInt(ARTISTS.length);
+            String artistName = ARTISTS[artistIndex];
+            String trackName = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+                    + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]
+                    + (random.nextInt(4) == 0 ? " (feat. " + ARTISTS[random.nextInt(ARTISTS.length)] + ")" : "");
+            String collectionName = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " Vol. " + (1 + i % 7);
+            String releaseDate = String.format("%d-%02d-%02dT12:00:00Z",
+                    2000 + random.nextInt(25), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            String genre = GENRES[random.nextInt(GENRES.length)];
+
+            catalog.add(new CatalogTrack(
+                    options.trackIdBase + i,
+                    options.trackIdBase / 2 + i / 10,
+                    options.trackIdBase / 4 + artistIndex,
+                    trackName,
+                    artistName,
+                    collectionName,
+                    120_000 + random.nextInt(180_000),
+                    releaseDate,
+                    genre,
+                    (trackName + " " + artistName + " " + collectionName).toLowerCase(Locale.ROOT)
+            ));
+        }
+        return catalog;
+    }
+
+    private static String toJson(List<CatalogTrack> tracks) {
+        StringBuilder json = new StringBuilder(256 + tracks.size() * 900);
+        json.append(jsonHeader(tracks.size()));
+        for (int i = 0; i < tracks.size(); i++) {
+            json.append(i > 0 ? ",\n" : "\n").append(toJson(tracks.get(i)));
+        }
+        return json.append(JSON_FOOTER).toString();
+    }
+
+    private static String jsonHeader(int resultCount) {
+        return "{\n \"resultCount\":" + resultCount + ",\n \"results\": [";
+    }
+
+    private static String toJson(CatalogTrack track) {
+        return new StringBuilder(900)
+                .append("{\"wrapperType\":\"track\", \"kind\":\"song\"")
+                .append(", \"artistId\":").append(track.artistId())
+                .append(", \"collectionId\":").append(track.collectionId())
+                .append(", \"trackId\":").append(track.trackId())
+                .append(", \"artistName\":\"").append(escape(track.artistName())).append('"')
+                .append(", \"collectionName\":\"").append(escape(track.collectionName())).append('"')
+                .append(", \"trackName\":\"").append(escape(track.trackName())).append('"')
+                .append(", \"trackViewUrl\":\"https://music.apple.com/kr/album/").append(track.collectionId())
+                .append("?i=").append(track.trackId()).append("&uo=4\"")
+                .append(", \"previewUrl\":\"https://audio-ssl.itunes.apple.com/itunes-assets/AudioPreview/fake/")
+                .append(track.trackId()).append(".plus.aac.p.m4a\"")
+                .append(", \"artworkUrl100\":\"https://is1-ssl.mzstatic.com/image/thumb/Music/fake/")
+                .append(track.collectionId()).append(".jpg/100x100bb.jpg\"")
+                .append(", \"collectionPrice\":7.99, \"trackPrice\":1.29")
+                .append(", \"releaseDate\":\"").append(track.releaseDate()).append('"')
+                .append(", \"trackTimeMillis\":").append(track.trackTimeMillis())
+                .append(", \"country\":\"KOR\", \"currency\":\"KRW\"")
+                .append(", \"primaryGenreName\":\"").append(escape(track.primaryGenreName())).append('"')
+                .append(", \"isStreamable\":true}")
+                .toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * 곡마다 나눠서 chunkDelay 간격으로 보냄 - 클라이언트가 끊어서 쓰기가 실패하면 abortedResponses 증가
+     */
+    private void sendChunked(HttpExchange exchange, List<CatalogTrack> tracks, Duration chunkDelay) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/javascript; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            write(out, jsonHeader(tracks.size()));
+            for (int i = 0; i < tracks.size(); i++) {
+                sleep(chunkDelay.toMillis());
+                write(out, (i > 0 ? ",\n" : "\n") + toJson(tracks.get(i)));
+            }
+            write(out, JSON_FOOTER);
+        } catch (IOException e) {
+            abortedResponses.incrementAndGet();
+        }
+    }
+
+    private static void write(OutputStream out, String chunk) throws IOException {
+        out.write(chunk.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/javascript; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 단독 실행: [port(기본 8089)] [catalogSize(기본 50000)]
+     * 지연은 실제 iTunes와 비슷하게 로그 정규 분포(search 중앙값 150ms, lookup 중앙값 80ms)
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Options options = new Options()
+                .port(args.length > 0 ? Integer.parseInt(args[0]) : 8089)
+                .catalogSize(args.length > 1 ? Integer.parseInt(args[1]) : 50_000)
+                .searchLatency(Latency.logNormal(Duration.ofMillis(150), 0.5))
+                .lookupLatency(Latency.logNormal(Duration.ofMillis(80), 0.5));
+
+        FakeItunesServer server = start(options);
+        System.out.println("Fake iTunes server started (catalog: " + server.catalog().size() + " tracks)");
+        System.out.println("export ITUNES_SEARCH_URL=" + server.searchUrl());
+        System.out.println("export ITUNES_LOOKUP_URL=" + server.lookupUrl());
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.musicBackend.external.itunes.service;
+
+import com.example.musicBackend.external.itunes.dto.ItunesSearchRequest;
+import com.example.musicBackend.external.itunes.dto.ItunesSearchStream;
+import com.example.musicBackend.external.itunes.dto.SearchMode;
+import com.example.musicBackend.external.itunes.fake.FakeItunesServer;
+import com.example.musicBackend.feature.track.dto.TrackSearchResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스트리밍 검색 중 클라이언트가 끊으면(본문 구독 취소) iTunes 요청도 함께 끊기는지 검증
+ * 실제 iTunes 대신 곡마다 나눠서 천천히 응답하는 로컬 대체 서버(FakeItunesServer)를 사용
+ */
+@SpringBootTest(properties = "itunes.refresh.enabled=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("iTunes 검색 스트리밍 취소 테스트")
+class ItunesSearchStreamCancelTest {
+
+    private static FakeItunesServer itunesServer;
+
+    @Autowired
+    private ItunesService itunesService;
+
+    @DynamicPropertySource
+    static void itunesProperties(DynamicPropertyRegistry registry) {
+        // 한 구간(50곡)을 다 보내는 데 약 5초
+        itunesServer = FakeItunesServer.start(new FakeItunesServer.Options()
+                .catalogSize(1_000)
+                .searchChunkDelay(Duration.ofMillis(100)));
+
+        registry.add("itunes.search.url", itunesServer::searchUrl);
+    }
+
+    @Test
+    @DisplayName("곡 2개를 받은 뒤 구독을 취소하면 iTunes 응답이 끝나기 전에 연결이 끊김")
+    void 스트리밍_중간에_취소하면_iTunes_연결이_끊김() throws InterruptedException {
+        // given
+        ItunesSearchStream stream = itunesService
+                .streamSearchTracks(new ItunesSearchRequest("love", SearchMode.REMOTE, 0, 20))
+                .block(Duration.ofSeconds(5));
+        assertThat(stream).isNotNull();
+        assertThat(stream.degraded()).isFalse();
+
+        // when - 클라이언트 연결 종료처럼 곡 2개만 받고 취소
+        List<TrackSearchResponseDto> received = stream.tracks()
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // then - 남은 곡을 다 보내기(약 5초) 전에 대체 서버의 쓰기가 실패함
+        assertThat(received).hasSize(2);
+        long deadline = System.currentTimeMillis() + 3_000;
+        while (itunesServer.abortedResponses() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(itunesServer.abortedResponses()).isEqualTo(1);
+        assertThat(itunesServer.searchRequests()).isEqualTo(1);
+    }
+
+    @AfterAll
+    void cleanup() {
+        itunesServer.close();
+    }
+}
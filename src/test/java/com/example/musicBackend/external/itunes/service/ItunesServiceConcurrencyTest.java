@@ -0,0 +1,123 @@
+package com.example.musicBackend.external.itunes.service;
+
+import com.example.musicBackend.external.itunes.fake.FakeItunesServer;
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
+import com.example.musicBackend.feature.playlist.service.PlaylistService;
+import com.example.musicBackend.feature.track.repository.TrackRepository;
+import com.example.musicBackend.feature.user.domain.User;
+import com.example.musicBackend.feature.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 곡을 동시에 추가할 때 iTunes 조회/저장이 한 번만 일어나는지 검증
+ * 실제 iTunes 대신 로컬 대체 서버(FakeItunesServer)를 사용
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("iTunes 곡 조회 동시성 테스트")
+class ItunesServiceConcurrencyTest {
+
+    private static final long TRACK_ID = 1_700_000_001L;
+    private static final int CONCURRENCY = 16;
+    private static final String TEST_EMAIL = "concurrency-test-" + UUID.randomUUID() + "@example.com";
+
+    private static FakeItunesServer itunesServer;
+
+    @Autowired
+    private PlaylistService playlistService;
+
+    @Autowired
+    private PlaylistRepository playlistRepository;
+
+    @Autowired
+    private TrackRepository trackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void itunesProperties(DynamicPropertyRegistry registry) {
+        // 동시 요청들이 겹치도록 lookup 응답 지연
+        itunesServer = FakeItunesServer.start(new FakeItunesServer.Options()
+                .catalogSize(100)
+                .trackIdBase(TRACK_ID - 1)
+                .lookupLatency(FakeItunesServer.Latency.fixed(Duration.ofMillis(300))));
+
+        registry.add("itunes.lookup.url", itunesServer::lookupUrl);
+    }
+
+    @Test
+    @DisplayName("같은 곡을 동시에 여러 플레이리스트에 추가해도 iTunes 조회는 한 번만 발생")
+    void 같은_곡_동시_추가시_iTunes_조회는_한번만() throws Exception {
+        // given - 사용자 1명, 플레이리스트 CONCURRENCY개
+        User user = userRepository.save(User.builder()
+                .email(TEST_EMAIL)
+                .password("password123")
+                .nickname("동시성테스터")
+                .build());
+
+        List<Long> playlistIds = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            Playlist playlist = playlistRepository.save(Playlist.builder()
+                    .title("동시성 테스트 " + i)
+                    .user(user)
+                    .build());
+            playlistIds.add(playlist.getId());
+        }
+
+        // when - 모든 스레드가 준비된 뒤 동시에 같은 곡 추가
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PlaylistResponseDto>> results = new ArrayList<>();
+
+        for (Long playlistId : playlistIds) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return playlistService.addTrackToPlaylist(playlistId, user.getId(), TRACK_ID);
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        // then
+        for (Future<PlaylistResponseDto> result : results) {
+            PlaylistResponseDto playlist = result.get(30, TimeUnit.SECONDS);
+            assertThat(playlist.tracks()).hasSize(1);
+            assertThat(playlist.tracks().get(0).track().trackId()).isEqualTo(TRACK_ID);
+        }
+        executor.shutdown();
+
+        assertThat(itunesServer.lookupRequests()).isEqualTo(1);
+        assertThat(trackRepository.findByTrackId(TRACK_ID)).isPresent();
+    }
+
+    @AfterAll
+    void cleanup() {
+        userRepository.findByEmail(TEST_EMAIL).ifPresent(userRepository::delete);
+        trackRepository.findByTrackId(TRACK_ID).ifPresent(trackRepository::delete);
+        itunesServer.close();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.musicBackend.feature.playlist.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static com.example.musicBackend.feature.playlist.domain.SortKeys.GAP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 곡 순서 일괄 변경 시 새 정렬 키 계산 검증
+ * 바뀐 키는 어떤 기존 키와도 겹치지 않아야 행마다 한 번의 UPDATE로 쓸 수 있음
+ */
+@DisplayName("정렬 키 재배치 테스트")
+class SortKeysTest {
+
+    @Test
+    @DisplayName("순서가 맞는 가장 긴 부분은 그대로 두고 옮긴 곡만 새 키를 받음")
+    void 옮긴_곡만_새_키를_받음() {
+        // given - 마지막 곡을 맨 앞으로
+        long[] currentKeys = {3 * GAP, GAP, 2 * GAP};
+
+        // when
+        long[] keys = SortKeys.reorder(currentKeys);
+
+        // then
+        assertThat(keys).containsExactly(GAP / 2, GAP, 2 * GAP);
+    }
+
+    @Test
+    @DisplayName("사이 값이 옮기는 다른 곡의 기존 키와 같으면 그 키를 건너뜀")
+    void 옮기는_곡의_기존_키를_건너뜀() {
+        // given - 0과 2*GAP 사이 값(GAP)이 뒤로 옮기는 곡의 기존 키
+        long[] currentKeys = {3 * GAP, 2 * GAP, 4 * GAP, GAP};
+
+        // when
+        long[] keys = SortKeys.reorder(currentKeys);
+
+        // then
+        assertThat(keys[0]).isEqualTo(GAP + 1);
+        assertThat(keys[1]).isEqualTo(2 * GAP);
+        assertThat(keys[2]).isEqualTo(4 * GAP);
+        assertStrictlyIncreasing(keys);
+        assertChangedKeysAreNew(currentKeys, keys);
+    }
+
+    @Test
+    @DisplayName("사이에 빈 키가 모자라면 기존 최대 키 뒤부터 GAP 간격으로 다시 매김")
+    void 빈_키가_모자라면_최대_키_뒤로_다시_매김() {
+        // given
+        long[] currentKeys = {2, 1};
+
+        // when
+        long[] keys = SortKeys.reorder(currentKeys);
+
+        // then
+        assertThat(keys).containsExactly(2 + GAP, 2 + 2 * GAP);
+    }
+
+    @Test
+    @DisplayName("임의의 순서에서도 새 키는 증가하고 바뀐 키는 기존 키와 겹치지 않음")
+    void 임의의_순서에서_새_키가_기존_키와_겹치지_않음() {
+        Random random = new Random(42);
+        for (int round = 0; round < 1_000; round++) {
+            // given - 간격이 좁은 키도 섞이도록 작은 범위에서 뽑음
+            int size = 2 + random.nextInt(30);
+            Set<Long> distinct = new HashSet<>();
+            while (distinct.size() < size) {
+                distinct.add(1L + random.nextInt(size * 8));
+            }
+            List<Long> shuffled = new ArrayList<>(distinct);
+            Collections.shuffle(shuffled, random);
+            long[] currentKeys = shuffled.stream().mapToLong(Long::longValue).toArray();
+
+            // when
+            long[] keys = SortKeys.reorder(currentKeys);
+
+            // then
+            assertStrictlyIncreasing(keys);
+            assertChangedKeysAreNew(currentKeys, keys);
+        }
+    }
+
+    private static void assertStrictlyIncreasing(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            assertThat(keys[i]).isGreaterThan(keys[i - 1]);
+        }
+    }
+
+    private static void assertChangedKeysAreNew(long[] currentKeys, long[] keys) {
+        Set<Long> existing = new HashSet<>();
+        for (long key : currentKeys) {
+            existing.add(key);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != currentKeys[i]) {
+                assertThat(existing).doesNotContain(keys[i]);
+            }
+        }
+    }
+}
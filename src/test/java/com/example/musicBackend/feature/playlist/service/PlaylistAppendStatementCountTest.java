@@ -0,0 +1,150 @@
+package com.example.musicBackend.feature.playlist.service;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.dto.AppendTrackResponseDto;
+import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
+import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
+import com.example.musicBackend.feature.user.domain.User;
+import com.example.musicBackend.feature.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 곡 추가(append) 시 실행되는 SQL 수가 플레이리스트 크기와 관계없이 같은지 검증
+ * SQL 수는 Hibernate 통계(prepareStatementCount)로 측정
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "itunes.refresh.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("플레이리스트 곡 추가 SQL 수 테스트")
+class PlaylistAppendStatementCountTest {
+
+    private static final String TEST_EMAIL = "append-test-" + UUID.randomUUID() + "@example.com";
+
+    // 다른 테스트의 곡과 겹치지 않는 trackId 구간
+    private static final long TRACK_ID_BASE = 1_900_000_000L;
+
+    @Autowired
+    private PlaylistService playlistService;
+
+    @Autowired
+    private PlaylistRepository playlistRepository;
+
+    @Autowired
+    private PlaylistTrackRepository playlistTrackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private long nextTrackId = TRACK_ID_BASE;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email(TEST_EMAIL)
+                .password("password123")
+                .nickname("추가테스터")
+                .build());
+    }
+
+    @Test
+    @DisplayName("곡 10개인 플레이리스트와 10,000개인 플레이리스트에 곡을 추가할 때 SQL 수가 같음")
+    void 플레이리스트_크기와_관계없이_곡_추가_SQL_수가_같음() {
+        // given
+        Playlist small = playlistWithTracks(10);
+        Playlist large = playlistWithTracks(10_000);
+        long smallTrackId = insertTracks(1).get(0);
+        long largeTrackId = insertTracks(1).get(0);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        statistics.clear();
+        AppendTrackResponseDto smallResult = playlistService.appendTrack(small.getId(), user.getId(), smallTrackId);
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        AppendTrackResponseDto largeResult = playlistService.appendTrack(large.getId(), user.getId(), largeTrackId);
+        long largeStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(smallResult.trackCount()).isEqualTo(11);
+        assertThat(smallResult.track().position()).isEqualTo(10);
+        assertThat(largeResult.trackCount()).isEqualTo(10_001);
+        assertThat(largeResult.track().position()).isEqualTo(10_000);
+        assertThat(playlistTrackRepository.countByPlaylistId(large.getId())).isEqualTo(10_001);
+
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        System.out.println("✅ 곡 추가 SQL 수 - 10곡: " + smallStatements + ", 10,000곡: " + largeStatements);
+    }
+
+    /**
+     * trackCount곡이 담긴 플레이리스트 (곡/플레이리스트 곡은 JDBC batch로 바로 넣음)
+     * playlist_tracks.track_id는 tracks.id
+     */
+    private Playlist playlistWithTracks(int trackCount) {
+        Playlist playlist = playlistRepository.save(Playlist.builder()
+                .title("곡 추가 테스트 " + trackCount)
+                .user(user)
+                .build());
+        List<Long> itunesTrackIds = insertTracks(trackCount);
+        List<Long> trackIds = jdbcTemplate.queryForList(
+                "SELECT id FROM tracks WHERE track_id BETWEEN ? AND ? ORDER BY id", Long.class,
+                itunesTrackIds.get(0), itunesTrackIds.get(itunesTrackIds.size() - 1));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Playlist managed = playlistRepository.findById(playlist.getId()).orElseThrow();
+            long lastSortKey = playlistTrackRepository.batchInsert(managed.getId(), trackIds, null);
+            managed.tracksAppended(trackIds.size(), lastSortKey);
+        });
+        return playlist;
+    }
+
+    /**
+     * tracks 테이블에 곡을 넣고 iTunes trackId 목록 반환
+     */
+    private List<Long> insertTracks(int count) {
+        List<Long> itunesTrackIds = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long trackId = nextTrackId++;
+            itunesTrackIds.add(trackId);
+            rows.add(new Object[]{trackId, "추가 테스트 곡 " + trackId, "추가 테스트 아티스트"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tracks (track_id, title, artist) VALUES (?, ?, ?)", rows);
+        return itunesTrackIds;
+    }
+
+    @AfterAll
+    void cleanup() {
+        userRepository.findByEmail(TEST_EMAIL).ifPresent(userRepository::delete);
+        jdbcTemplate.update("DELETE FROM tracks WHERE track_id >= ? AND track_id < ?", TRACK_ID_BASE, nextTrackId);
+    }
+}
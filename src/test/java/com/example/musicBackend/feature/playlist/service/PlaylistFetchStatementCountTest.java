@@ -0,0 +1,232 @@
+package com.example.musicBackend.feature.playlist.service;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.dto.PlaylistResponseDto;
+import com.example.musicBackend.feature.playlist.dto.PlaylistSummaryResponseDto;
+import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
+import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
+import com.example.musicBackend.feature.user.domain.User;
+import com.example.musicBackend.feature.user.repository.UserRepository;
+import com.example.musicBackend.global.dto.CursorPageResponseDto;
+import com.example.musicBackend.global.jpa.FetchBatch;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플레이리스트 조회 API별 SQL 수가 플레이리스트/곡/공유 수와 관계없이 고정인지 검증
+ * SQL 수는 Hibernate 통계(prepareStatementCount)로 측정
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "itunes.refresh.enabled=false"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("플레이리스트 조회 SQL 수 테스트")
+class PlaylistFetchStatementCountTest {
+
+    private static final String EMAIL_PREFIX = "fetch-test-" + UUID.randomUUID() + "-";
+
+    // 다른 테스트의 곡과 겹치지 않는 trackId 구간
+    private static final long TRACK_ID_BASE = 1_910_000_000L;
+
+    private static final int TRACKS_PER_PLAYLIST = 3;
+    private static final int SHARES_PER_PLAYLIST = 2;
+
+    // 큰 목록의 곡 수가 FetchBatch.SIZE를 넘도록 (20 × 50 + 30 = 1,030곡)
+    private static final int LARGE_TRACKS_PER_PLAYLIST = 50;
+
+    @Autowired
+    private PlaylistService playlistService;
+
+    @Autowired
+    private PlaylistRepository playlistRepository;
+
+    @Autowired
+    private PlaylistTrackRepository playlistTrackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> owners = new ArrayList<>();
+    private final List<User> sharedUsers = new ArrayList<>();
+    private long nextTrackId = TRACK_ID_BASE;
+    private int nextUser = 0;
+
+    private User smallOwner;
+    private User largeOwner;
+    private Playlist smallPlaylist;
+    private Playlist largePlaylist;
+
+    @BeforeAll
+    void setUp() {
+        for (int i = 0; i < 10; i++) {
+            sharedUsers.add(newUser("공유받은사람"));
+        }
+
+        smallOwner = newUser("작은목록");
+        largeOwner = newUser("큰목록");
+        owners.add(smallOwner);
+        owners.add(largeOwner);
+
+        for (int i = 0; i < 2; i++) {
+            playlistWith(smallOwner, TRACKS_PER_PLAYLIST, SHARES_PER_PLAYLIST);
+        }
+        for (int i = 0; i < 20; i++) {
+            playlistWith(largeOwner, LARGE_TRACKS_PER_PLAYLIST, SHARES_PER_PLAYLIST);
+        }
+
+        smallPlaylist = playlistWith(smallOwner, 3, 1);
+        largePlaylist = playlistWith(largeOwner, 30, 10);
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 곡 3개/공유 1명과 곡 30개/공유 10명의 SQL 수가 같음")
+    void 단건_조회_SQL_수가_곡_공유_수와_관계없이_같음() {
+        // when
+        long small = countStatements(() -> playlistService.getPlaylist(smallPlaylist.getId(), smallOwner.getId()));
+        long large = countStatements(() -> playlistService.getPlaylist(largePlaylist.getId(), largeOwner.getId()));
+
+        // then
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(2);
+        System.out.println("✅ 단건 조회 SQL 수 - 작은 플레이리스트: " + small + ", 큰 플레이리스트: " + large);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 전체 조회(full) - 플레이리스트 3개(곡 9개)와 21개(곡 1,030개)의 SQL 수가 같음")
+    void 사용자_목록_전체_조회_SQL_수가_플레이리스트_수와_관계없이_같음() {
+        // when
+        long small = countStatements(() -> playlistService.getUserPlaylists(smallOwner.getId()));
+        List<PlaylistResponseDto> playlists = new ArrayList<>();
+        long large = countStatements(() -> playlists.addAll(playlistService.getUserPlaylists(largeOwner.getId())));
+
+        // then
+        assertThat(playlists.stream().mapToInt(playlist -> playlist.tracks().size()).sum())
+                .isGreaterThan(FetchBatch.SIZE);
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(4);
+        System.out.println("✅ 사용자 목록(full) SQL 수 - 3개: " + small + ", 21개: " + large);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 요약 조회 - 플레이리스트 수와 관계없이 SQL 1번")
+    void 사용자_목록_요약_조회_SQL_1번() {
+        // when
+        List<PlaylistSummaryResponseDto> summaries = new ArrayList<>();
+        long statements = countStatements(() -> summaries.addAll(playlistService.getUserPlaylistSummaries(largeOwner.getId())));
+
+        // then
+        assertThat(summaries).hasSize(21);
+        assertThat(summaries)
+                .filteredOn(summary -> summary.id().equals(largePlaylist.getId()))
+                .singleElement()
+                .satisfies(summary -> assertThat(summary.trackCount()).isEqualTo(30L));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("공개 피드 전체 조회(full) - 2개 페이지와 20개(곡 100개 이상) 페이지의 SQL 수가 같음")
+    void 공개_피드_전체_조회_SQL_수가_페이지_크기와_관계없이_같음() {
+        // when
+        List<CursorPageResponseDto<PlaylistResponseDto>> pages = new ArrayList<>();
+        long small = countStatements(() -> pages.add(playlistService.getPublicPlaylistFeed(null, 2)));
+        long large = countStatements(() -> pages.add(playlistService.getPublicPlaylistFeed(null, 20)));
+
+        // then
+        assertThat(pages.get(0).items()).hasSize(2);
+        assertThat(pages.get(1).items()).hasSize(20);
+        assertThat(pages.get(1).items().stream().mapToInt(playlist -> playlist.tracks().size()).sum())
+                .isGreaterThan(FetchBatch.SIZE);
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(4);
+        System.out.println("✅ 공개 피드(full) SQL 수 - 2개: " + small + ", 20개: " + large);
+    }
+
+    private long countStatements(Supplier<?> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User newUser(String nickname) {
+        return userRepository.save(User.builder()
+                .email(EMAIL_PREFIX + (nextUser++) + "@example.com")
+                .password("password123")
+                .nickname(nickname)
+                .build());
+    }
+
+    /**
+     * 곡 trackCount개, 공유 shareCount명인 공개 플레이리스트 (곡/공유는 JDBC batch로 바로 넣음)
+     */
+    private Playlist playlistWith(User owner, int trackCount, int shareCount) {
+        Playlist playlist = playlistRepository.save(Playlist.builder()
+                .title("조회 테스트 " + trackCount)
+                .user(owner)
+                .build());
+        List<Long> trackIds = insertTracks(trackCount);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Playlist managed = playlistRepository.findById(playlist.getId()).orElseThrow();
+            long lastSortKey = playlistTrackRepository.batchInsert(managed.getId(), trackIds, null);
+            managed.tracksAppended(trackIds.size(), lastSortKey);
+        });
+
+        List<Object[]> shares = new ArrayList<>(shareCount);
+        for (int i = 0; i < shareCount; i++) {
+            shares.add(new Object[]{playlist.getId(), sharedUsers.get(i).getId()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO playlist_visibilities (playlist_id, user_id) VALUES (?, ?)", shares);
+        return playlist;
+    }
+
+    /**
+     * tracks 테이블에 곡을 넣고 tracks.id 목록 반환
+     */
+    private List<Long> insertTracks(int count) {
+        long first = nextTrackId;
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long trackId = nextTrackId++;
+            rows.add(new Object[]{trackId, "조회 테스트 곡 " + trackId, "조회 테스트 아티스트", 200_000});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tracks (track_id, title, artist, duration_ms) VALUES (?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tracks WHERE track_id >= ? AND track_id < ? ORDER BY id", Long.class,
+                first, nextTrackId);
+    }
+
+    @AfterAll
+    void cleanup() {
+        owners.forEach(owner -> userRepository.findById(owner.getId()).ifPresent(userRepository::delete));
+        sharedUsers.forEach(user -> userRepository.deleteById(user.getId()));
+        jdbcTemplate.update("DELETE FROM tracks WHERE track_id >= ? AND track_id < ?", TRACK_ID_BASE, nextTrackId);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.musicBackend.feature.playlist.service;
+
+import com.example.musicBackend.feature.playlist.domain.Playlist;
+import com.example.musicBackend.feature.playlist.dto.PlaylistTrackResponseDto;
+import com.example.musicBackend.feature.playlist.repository.PlaylistRepository;
+import com.example.musicBackend.feature.playlist.repository.PlaylistTrackRepository;
+import com.example.musicBackend.feature.user.domain.User;
+import com.example.musicBackend.feature.user.repository.UserRepository;
+import com.example.musicBackend.global.dto.CursorPageResponseDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 플레이리스트 곡 커서 페이지가 곡 이동/삭제와 정렬 키 재정렬 사이에서도 곡을 건너뛰거나 반복하지 않는지 검증
+ */
+@SpringBootTest(properties = "itunes.refresh.enabled=false")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("플레이리스트 곡 페이지 커서 테스트")
+class PlaylistTrackPageTest {
+
+    private static final String EMAIL = "track-page-test-" + UUID.randomUUID() + "@example.com";
+
+    // 다른 테스트의 곡과 겹치지 않는 trackId 구간
+    private static final long TRACK_ID_BASE = 1_920_000_000L;
+
+    private static final int TRACK_COUNT = 30;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PlaylistService playlistService;
+
+    @Autowired
+    private PlaylistTrackRebalancer playlistTrackRebalancer;
+
+    @Autowired
+    private PlaylistRepository playlistRepository;
+
+    @Autowired
+    private PlaylistTrackRepository playlistTrackRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private long nextTrackId = TRACK_ID_BASE;
+
+    @BeforeAll
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("password123")
+                .nickname("페이지테스트")
+                .build());
+    }
+
+    @Test
+    @DisplayName("재정렬 전에 받은 cursor는 거부하고, 처음부터 다시 넘기면 모든 곡을 한 번씩 받음")
+    void 재정렬_전_cursor는_거부됨() {
+        // given - 첫 페이지를 받은 뒤 곡을 옮기고 정렬 키를 전체 다시 매김
+        Playlist playlist = playlistWithTracks();
+        CursorPageResponseDto<PlaylistTrackResponseDto> first =
+                playlistService.getPlaylistTracks(playlist.getId(), owner.getId(), null, PAGE_SIZE);
+        assertThat(first.nextCursor()).isNotNull();
+
+        Long lastTrackId = trackIdAt(playlist, TRACK_COUNT - 1);
+        playlistService.updateTrackPosition(playlist.getId(), owner.getId(), lastTrackId, 0);
+        transactionTemplate.executeWithoutResult(status -> playlistTrackRebalancer.rebalance(playlist.getId()));
+
+        // when & then - 이전 키 기준 cursor로는 이어서 조회할 수 없음
+        assertThatThrownBy(() -> playlistService.getPlaylistTracks(
+                playlist.getId(), owner.getId(), first.nextCursor(), PAGE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 처음부터 다시 넘기면 새 순서대로 빠짐/중복 없이 받음
+        List<PlaylistTrackResponseDto> all = allPages(playlist);
+        assertThat(all).hasSize(TRACK_COUNT);
+        assertThat(all).extracting(PlaylistTrackResponseDto::id).doesNotHaveDuplicates();
+        assertThat(all.get(0).track().id()).isEqualTo(lastTrackId);
+        for (int i = 0; i < all.size(); i++) {
+            assertThat(all.get(i).position()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("앞쪽 곡을 삭제해도 다음 페이지는 빠짐 없이 이어지고 position이 현재 순서와 맞음")
+    void 앞쪽_곡_삭제_후_다음_페이지() {
+        // given
+        Playlist playlist = playlistWithTracks();
+        CursorPageResponseDto<PlaylistTrackResponseDto> first =
+                playlistService.getPlaylistTracks(playlist.getId(), owner.getId(), null, PAGE_SIZE);
+        Long expectedNext = trackIdAt(playlist, PAGE_SIZE);
+
+        // when - 이미 받은 첫 곡을 삭제한 뒤 다음 페이지
+        playlistService.removeTrackFromPlaylist(playlist.getId(), owner.getId(), first.items().get(0).track().id());
+        CursorPageResponseDto<PlaylistTrackResponseDto> second =
+                playlistService.getPlaylistTracks(playlist.getId(), owner.getId(), first.nextCursor(), PAGE_SIZE);
+
+        // then
+        assertThat(second.items()).hasSize(PAGE_SIZE);
+        assertThat(second.items().get(0).track().id()).isEqualTo(expectedNext);
+        assertThat(second.items().get(0).position()).isEqualTo(PAGE_SIZE - 1);
+    }
+
+    private List<PlaylistTrackResponseDto> allPages(Playlist playlist) {
+        List<PlaylistTrackResponseDto> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDto<PlaylistTrackResponseDto> page =
+                    playlistService.getPlaylistTracks(playlist.getId(), owner.getId(), cursor, PAGE_SIZE);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    /**
+     * 현재 순서에서 position번째 곡의 tracks.id
+     */
+    private Long trackIdAt(Playlist playlist, int position) {
+        return playlistTrackRepository.findOrderByPlaylistId(playlist.getId()).get(position).trackId();
+    }
+
+    /**
+     * 곡 TRACK_COUNT개가 담긴 플레이리스트 (곡은 JDBC batch로 바로 넣음)
+     */
+    private Playlist playlistWithTracks() {
+        Playlist playlist = playlistRepository.save(Playlist.builder()
+                .title("페이지 테스트")
+                .user(owner)
+                .build());
+        List<Long> trackIds = insertTracks(TRACK_COUNT);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Playlist managed = playlistRepository.findById(playlist.getId()).orElseThrow();
+            long lastSortKey = playlistTrackRepository.batchInsert(managed.getId(), trackIds, null);
+            managed.tracksAppended(trackIds.size(), lastSortKey);
+        });
+        return playlist;
+    }
+
+    /**
+     * tracks 테이블에 곡을 넣고 tracks.id 목록 반환
+     */
+    private List<Long> insertTracks(int count) {
+        long first = nextTrackId;
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long trackId = nextTrackId++;
+            rows.add(new Object[]{trackId, "페이지 테스트 곡 " + trackId, "페이지 테스트 아티스트", 200_000});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tracks (track_id, title, artist, duration_ms) VALUES (?, ?, ?, ?)", rows);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM tracks WHERE track_id >= ? AND track_id < ? ORDER BY id", Long.class,
+                first, nextTrackId);
+    }
+
+    @AfterAll
+    void cleanup() {
+        userRepository.findById(owner.getId()).ifPresent(userRepository::delete);
+        jdbcTemplate.update("DELETE FROM tracks WHERE track_id >= ? AND track_id < ?", TRACK_ID_BASE, nextTrackId);
+    }
+}